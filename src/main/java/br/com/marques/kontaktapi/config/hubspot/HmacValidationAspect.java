@@ -1,25 +1,23 @@
 package br.com.marques.kontaktapi.config.hubspot;
 
+import br.com.marques.kontaktapi.config.security.HmacVerificationFilter;
+import br.com.marques.kontaktapi.controller.exception.GenericException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
-import org.springframework.web.server.ResponseStatusException;
-import org.springframework.web.util.ContentCachingRequestWrapper;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 
 @Slf4j
@@ -27,9 +25,6 @@ import java.util.stream.Collectors;
 @Component
 public class HmacValidationAspect {
 
-    @Value("${hubspot.client.secret}")
-    private String clientSecret;
-
     public static final String X_HUB_SPOT_REQUEST_TIMESTAMP = "X-HubSpot-Request-Timestamp";
     public static final String X_HUB_SPOT_SIGNATURE_V_3 = "X-HubSpot-Signature-v3";
     public static final String HTTP_PROTOCOL = "https://";
@@ -46,19 +41,9 @@ public class HmacValidationAspect {
         String method = request.getMethod();
         if (!Objects.equals(method, "POST")) return joinPoint.proceed();
 
-        String body = extractRequestBody(request);
-
-        String uri = request.getRequestURI();
-        String timestamp = request.getHeader(X_HUB_SPOT_REQUEST_TIMESTAMP);
-        String host = HTTP_PROTOCOL + request.getHeader(HOST);
-        String signatureBase = method + host + uri + body + timestamp;
-
-        String expectedSignature = generateHmac(signatureBase, clientSecret);
-        String receivedSignature = request.getHeader(X_HUB_SPOT_SIGNATURE_V_3);
-
-        if (!Objects.equals(expectedSignature, receivedSignature)) {
-            log.error("HMAC validation failed! Expected: {}, Received: {}", expectedSignature, receivedSignature);
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid Signature");
+        if (!Boolean.TRUE.equals(request.getAttribute(HmacVerificationFilter.SIGNATURE_VALID_ATTRIBUTE))) {
+            log.error("HMAC validation failed! Received: {}", request.getHeader(X_HUB_SPOT_SIGNATURE_V_3));
+            throw new GenericException("Invalid Signature", HttpStatus.UNAUTHORIZED);
         }
 
         log.info("HMAC validation passed!");
@@ -73,26 +58,6 @@ public class HmacValidationAspect {
         return null;
     }
 
-    private String extractRequestBody(HttpServletRequest request) {
-        try {
-            if (request instanceof ContentCachingRequestWrapper cachingRequest) {
-                byte[] content = cachingRequest.getContentAsByteArray();
-                if (content.length > 0) {
-                    String body = new String(content, StandardCharsets.UTF_8);
-                    log.debug("Request body (from cache): {}", body);
-                    return body;
-                }
-            }
-
-            String body = request.getReader().lines().collect(Collectors.joining(System.lineSeparator()));
-            log.debug("Request body (direct read): {}", body);
-            return body;
-        } catch (Exception e) {
-            log.error("Erro ao ler o corpo da requisição", e);
-            return "";
-        }
-    }
-
     public static String generateHmac(String data, String key) {
         try {
             Mac mac = Mac.getInstance("HmacSHA256");
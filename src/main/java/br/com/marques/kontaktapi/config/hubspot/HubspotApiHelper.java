@@ -1,6 +1,7 @@
 package br.com.marques.kontaktapi.config.hubspot;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
@@ -9,17 +10,26 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.lang.reflect.Type;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class HubspotApiHelper {
 
+    static final String ACCESS_TOKEN_INFO_ENDPOINT = "/oauth/v1/access-tokens/{token}";
+
     private final WebClient webClient;
+    private final Map<InFlightGet, Mono<?>> inFlightGets = new ConcurrentHashMap<>();
+    private final Counter upstreamGets;
+    private final Counter coalescedGets;
 
     @Value("${hubspot.client.id}")
     private String clientId;
@@ -30,6 +40,19 @@ public class HubspotApiHelper {
     @Value("${hubspot.oauth.authorization-url}")
     private String authorizationUrl;
 
+    public HubspotApiHelper(WebClient webClient, MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.upstreamGets = getCounter(meterRegistry, "upstream");
+        this.coalescedGets = getCounter(meterRegistry, "coalesced");
+    }
+
+    private static Counter getCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("hubspot.api.get.requests")
+                .description("GET calls to HubSpot, by whether they went upstream or joined one in flight")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
     public MultiValueMap<String, String> buildCallParameters(String grantType) {
         var parameters = new org.springframework.util.LinkedMultiValueMap<String, String>();
         parameters.add("grant_type", grantType);
@@ -73,6 +96,35 @@ public class HubspotApiHelper {
     }
 
     public <R> Mono<R> executeGetJsonCall(String endpoint, ParameterizedTypeReference<R> typeRef, String accessToken) {
+        return executeGetJsonCall(endpoint, typeRef, accessToken, Mono.empty());
+    }
+
+    /**
+     * Identical GETs (same endpoint with query, response type and token) that overlap
+     * share one upstream call; the flight is forgotten as soon as it completes. Only the
+     * caller that starts the flight subscribes to {@code permit} before going upstream,
+     * so callers that join it spend no rate limit.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Mono<R> executeGetJsonCall(String endpoint, ParameterizedTypeReference<R> typeRef, String accessToken,
+                                          Mono<?> permit) {
+        InFlightGet key = new InFlightGet(endpoint, typeRef.getType(), accessToken);
+        return Mono.defer(() -> {
+            boolean[] leader = new boolean[1];
+            Mono<R> flight = (Mono<R>) inFlightGets.computeIfAbsent(key, k -> {
+                leader[0] = true;
+                AtomicReference<Mono<R>> self = new AtomicReference<>();
+                self.set(permit.then(Mono.defer(() -> fetchJson(endpoint, typeRef, accessToken)))
+                        .doFinally(signal -> inFlightGets.remove(k, self.get()))
+                        .cache());
+                return self.get();
+            });
+            (leader[0] ? upstreamGets : coalescedGets).increment();
+            return flight;
+        });
+    }
+
+    private <R> Mono<R> fetchJson(String endpoint, ParameterizedTypeReference<R> typeRef, String accessToken) {
         log.info("Executing GET JSON call to endpoint: {}", endpoint);
         return webClient.get()
                 .uri(endpoint)
@@ -83,4 +135,24 @@ public class HubspotApiHelper {
                 .doOnSuccess(r -> log.info("GET JSON call executed successfully"))
                 .doOnError(e -> log.error("Error executing GET JSON call: {}", e.toString()));
     }
+
+    /**
+     * Looks up the metadata (including {@code hub_id}) of an access token. The token is part
+     * of the path, so this call is never logged, is tagged as {@code other} in the client
+     * metrics, and its errors are rethrown without the request URI.
+     */
+    public Mono<Map<String, Object>> fetchAccessTokenInfo(String accessToken) {
+        return webClient.get()
+                .uri(ACCESS_TOKEN_INFO_ENDPOINT, accessToken)
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .onErrorMap(e -> new IllegalStateException("HubSpot access token lookup failed: "
+                        + (e instanceof WebClientResponseException response
+                                ? response.getStatusCode()
+                                : e.getClass().getSimpleName())));
+    }
+
+    private record InFlightGet(String endpoint, Type responseType, String accessToken) {
+    }
 }
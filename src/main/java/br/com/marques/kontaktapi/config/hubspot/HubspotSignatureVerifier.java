@@ -0,0 +1,152 @@
+package br.com.marques.kontaktapi.config.hubspot;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+import static br.com.marques.kontaktapi.config.hubspot.HmacValidationAspect.HTTP_PROTOCOL;
+
+/**
+ * Verifies HubSpot v3 signatures (HMAC-SHA256 over method, https://host, uri, body and
+ * timestamp). Each thread keeps a Mac keyed once plus scratch buffers, the signature
+ * base is fed to the Mac piece by piece and the received signature is decoded into a
+ * reused array, so a verification allocates next to nothing.
+ */
+@Component
+public class HubspotSignatureVerifier {
+
+    private static final String HMAC_SHA_256 = "HmacSHA256";
+    private static final int SIGNATURE_BYTES = 32;
+    private static final int SCRATCH_BYTES = 256;
+    private static final byte[] BASE64_VALUES = base64Values();
+
+    private final SecretKeySpec keySpec;
+    private final ThreadLocal<Workspace> workspaces;
+
+    private final class Workspace {
+        private final Mac mac;
+        private final byte[] scratch = new byte[SCRATCH_BYTES];
+        private final byte[] expected = new byte[SIGNATURE_BYTES];
+        private final byte[] received = new byte[SIGNATURE_BYTES];
+
+        private Workspace() {
+            try {
+                mac = Mac.getInstance(HMAC_SHA_256);
+                mac.init(keySpec);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Erro ao gerar HMAC", e);
+            }
+        }
+    }
+
+    public HubspotSignatureVerifier(@Value("${hubspot.client.secret}") String clientSecret) {
+        this.keySpec = new SecretKeySpec(clientSecret.getBytes(StandardCharsets.UTF_8), HMAC_SHA_256);
+        this.workspaces = ThreadLocal.withInitial(Workspace::new);
+    }
+
+    public boolean verify(String method, String host, String uri,
+                          byte[] body, int offset, int length,
+                          String timestamp, String receivedSignature) {
+        Mac mac = begin(method, host, uri);
+        mac.update(body, offset, length);
+        return matches(mac, timestamp, receivedSignature);
+    }
+
+    /**
+     * Starts a signature for a body that is still being read; feed the body to the
+     * returned Mac and finish with {@link #matches} on the same thread.
+     */
+    public Mac begin(String method, String host, String uri) {
+        Workspace workspace = workspaces.get();
+        Mac mac = workspace.mac;
+        mac.reset();
+        update(mac, method, workspace.scratch);
+        update(mac, HTTP_PROTOCOL, workspace.scratch);
+        update(mac, host, workspace.scratch);
+        update(mac, uri, workspace.scratch);
+        return mac;
+    }
+
+    public boolean matches(Mac mac, String timestamp, String receivedSignature) {
+        if (timestamp == null || receivedSignature == null) {
+            mac.reset();
+            return false;
+        }
+
+        Workspace workspace = workspaces.get();
+        update(mac, timestamp, workspace.scratch);
+        try {
+            mac.doFinal(workspace.expected, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException("Erro ao gerar HMAC", e);
+        }
+        return decodeBase64(receivedSignature, workspace.received) == SIGNATURE_BYTES
+                && constantTimeEquals(workspace.expected, workspace.received);
+    }
+
+    private static void update(Mac mac, String value, byte[] scratch) {
+        if (value == null) {
+            update(mac, "null", scratch);
+            return;
+        }
+
+        int filled = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                mac.update(scratch, 0, filled);
+                mac.update(value.substring(i).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            if (filled == scratch.length) {
+                mac.update(scratch, 0, filled);
+                filled = 0;
+            }
+            scratch[filled++] = (byte) c;
+        }
+        mac.update(scratch, 0, filled);
+    }
+
+    static int decodeBase64(String encoded, byte[] out) {
+        int length = encoded.length();
+        while (length > 0 && encoded.charAt(length - 1) == '=') length--;
+        if ((long) length * 3 / 4 > out.length || length % 4 == 1) return -1;
+
+        int written = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = 0; i < length; i++) {
+            char c = encoded.charAt(i);
+            int value = c < 128 ? BASE64_VALUES[c] : -1;
+            if (value < 0) return -1;
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[written++] = (byte) (bits >> bitCount);
+            }
+        }
+        return written;
+    }
+
+    static boolean constantTimeEquals(byte[] a, byte[] b) {
+        if (a.length != b.length) return false;
+        int diff = 0;
+        for (int i = 0; i < a.length; i++) diff |= a[i] ^ b[i];
+        return diff == 0;
+    }
+
+    private static byte[] base64Values() {
+        byte[] values = new byte[128];
+        Arrays.fill(values, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) values[alphabet.charAt(i)] = (byte) i;
+        return values;
+    }
+}
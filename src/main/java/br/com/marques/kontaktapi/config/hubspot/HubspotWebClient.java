@@ -1,19 +1,117 @@
 package br.com.marques.kontaktapi.config.hubspot;
 
+import br.com.marques.kontaktapi.config.resilience.AdaptiveRateLimitController;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 @Configuration
 public class HubspotWebClient {
+    static final String POOL_NAME = "hubspot";
+    static final String OTHER_URI = "other";
+    private static final Map<Pattern, String> URI_TEMPLATES = Map.of(
+            Pattern.compile("/crm/v3/objects/contacts"), "/crm/v3/objects/contacts",
+            Pattern.compile("/crm/v3/objects/contacts/batch/create"), "/crm/v3/objects/contacts/batch/create",
+            Pattern.compile("/crm/v3/objects/contacts/\\d+"), "/crm/v3/objects/contacts/{id}",
+            Pattern.compile("/oauth/v1/token"), "/oauth/v1/token");
+
     @Value("${hubspot.api.base-url}")
     private String baseUrl;
 
+    @Value("${hubspot.api.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${hubspot.api.http.pending-acquire-max:200}")
+    private int pendingAcquireMax;
+
+    @Value("${hubspot.api.http.pending-acquire-timeout-ms:5000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${hubspot.api.http.max-idle-time-ms:30000}")
+    private long maxIdleTimeMs;
+
+    @Value("${hubspot.api.http.max-life-time-ms:300000}")
+    private long maxLifeTimeMs;
+
+    @Value("${hubspot.api.http.evict-interval-ms:30000}")
+    private long evictIntervalMs;
+
+    @Value("${hubspot.api.http.connect-timeout-ms:3000}")
+    private int connectTimeoutMs;
+
+    @Value("${hubspot.api.http.response-timeout-ms:10000}")
+    private long responseTimeoutMs;
+
+    @Value("${hubspot.api.http.http2:false}")
+    private boolean http2;
+
+    @Value("${hubspot.api.http.compression:true}")
+    private boolean compression;
+
+    /**
+     * Dedicated pool for HubSpot so bursts cannot queue without bound; with metrics on,
+     * Reactor Netty publishes active, idle, pending and acquire-time meters under
+     * {@code reactor.netty.connection.provider.*} to the global Micrometer registry.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider hubspotConnectionProvider() {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofMillis(evictIntervalMs))
+                .metrics(true)
+                .build();
+    }
+
     @Bean
-    public WebClient buildHubspotWebClient() {
+    public WebClient buildHubspotWebClient(ConnectionProvider hubspotConnectionProvider,
+                                           AdaptiveRateLimitController adaptiveRateLimitController) {
+        HttpClient httpClient = HttpClient.create(hubspotConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .compress(compression)
+                .metrics(true, HubspotWebClient::uriTag);
+        if (http2) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
         return WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(ExchangeFilterFunction.ofResponseProcessor(response -> {
+                    adaptiveRateLimitController.onResponse(response.statusCode(), response.headers().asHttpHeaders());
+                    return Mono.just(response);
+                }))
                 .build();
     }
+
+    /**
+     * Paths can carry ids or even tokens, so only known endpoints are tagged by their
+     * template; everything else shares the {@code other} tag.
+     */
+    static String uriTag(String uri) {
+        int query = uri.indexOf('?');
+        String path = query < 0 ? uri : uri.substring(0, query);
+        return URI_TEMPLATES.entrySet().stream()
+                .filter(template -> template.getKey().matcher(path).matches())
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(OTHER_URI);
+    }
 }
@@ -0,0 +1,145 @@
+package br.com.marques.kontaktapi.config.hubspot;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Rejects webhook deliveries whose {@code X-HubSpot-Request-Timestamp} is outside the
+ * tolerance window and remembers verified signatures until their timestamp goes stale.
+ * Signatures are bucketed by request timestamp, so a bucket is dropped as a whole once
+ * every timestamp in it is too old to pass the freshness check anyway. When sharing is
+ * enabled the first-seen check is repeated with SET NX in Redis so replays are caught
+ * across nodes.
+ */
+@Slf4j
+@Component
+public class WebhookReplayGuard {
+
+    static final String KEY_PREFIX = "webhook:signature:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Clock clock;
+    private final long toleranceMs;
+    private final long bucketMs;
+    private final int maxEntriesPerBucket;
+    private final boolean shared;
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final Counter overflows;
+    private final Counter redisFailures;
+
+    @Autowired
+    public WebhookReplayGuard(StringRedisTemplate redisTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${hubspot.webhook.replay.tolerance-ms:300000}") long toleranceMs,
+                              @Value("${hubspot.webhook.replay.bucket-ms:10000}") long bucketMs,
+                              @Value("${hubspot.webhook.replay.max-entries:100000}") int maxEntries,
+                              @Value("${hubspot.webhook.replay.shared:false}") boolean shared) {
+        this(redisTemplate, meterRegistry, Clock.systemUTC(), toleranceMs, bucketMs, maxEntries, shared);
+    }
+
+    WebhookReplayGuard(StringRedisTemplate redisTemplate,
+                       MeterRegistry meterRegistry,
+                       Clock clock,
+                       long toleranceMs,
+                       long bucketMs,
+                       int maxEntries,
+                       boolean shared) {
+        if (toleranceMs <= 0 || bucketMs <= 0) {
+            throw new IllegalArgumentException("Replay tolerance and bucket width must be positive");
+        }
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+        this.toleranceMs = toleranceMs;
+        this.bucketMs = bucketMs;
+        this.shared = shared;
+
+        int slots = (int) Math.min(Integer.MAX_VALUE, 2 * toleranceMs / bucketMs + 2);
+        this.buckets = new AtomicReferenceArray<>(slots);
+        this.maxEntriesPerBucket = Math.max(1, maxEntries / slots);
+        this.overflows = Counter.builder("webhook.replay.overflows")
+                .description("Verified signatures not remembered because their bucket was full")
+                .register(meterRegistry);
+        this.redisFailures = Counter.builder("webhook.replay.redis.failures")
+                .description("Shared replay checks that could not reach Redis")
+                .register(meterRegistry);
+    }
+
+    public boolean isFresh(String timestamp) {
+        long sentAt = parse(timestamp);
+        return sentAt >= 0 && Math.abs(clock.millis() - sentAt) <= toleranceMs;
+    }
+
+    /**
+     * Records a verified signature and answers whether this is its first delivery. The
+     * timestamp must already have passed {@link #isFresh}.
+     */
+    public boolean firstDelivery(String signature, String timestamp) {
+        long sentAt = parse(timestamp);
+        if (sentAt < 0) return false;
+
+        Bucket bucket = bucketFor(sentAt / bucketMs);
+        if (bucket.signatures.contains(signature)) return false;
+        if (bucket.signatures.size() >= maxEntriesPerBucket) {
+            overflows.increment();
+        } else if (!bucket.signatures.add(signature)) {
+            return false;
+        }
+        return !shared || firstDeliveryAcrossNodes(signature, sentAt);
+    }
+
+    private boolean firstDeliveryAcrossNodes(String signature, long sentAt) {
+        Duration ttl = Duration.ofMillis(Math.max(1, sentAt + toleranceMs - clock.millis()) + bucketMs);
+        try {
+            Boolean stored = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + signature, "1", ttl);
+            if (stored != null) return stored;
+            redisFailures.increment();
+        } catch (Exception e) {
+            redisFailures.increment();
+            log.warn("Shared replay check failed; relying on the local cache: {}", e.getMessage());
+        }
+        return true;
+    }
+
+    private Bucket bucketFor(long epoch) {
+        int slot = (int) Math.floorMod(epoch, (long) buckets.length());
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null && bucket.epoch == epoch) return bucket;
+            if (bucket != null && bucket.epoch > epoch) {
+                // A newer bucket owns the slot; the timestamp is too old to be remembered.
+                return new Bucket(epoch);
+            }
+            Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(slot, bucket, fresh)) return fresh;
+        }
+    }
+
+    private static long parse(String timestamp) {
+        if (timestamp == null) return -1;
+        try {
+            return Long.parseLong(timestamp);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final Set<String> signatures = ConcurrentHashMap.newKeySet();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
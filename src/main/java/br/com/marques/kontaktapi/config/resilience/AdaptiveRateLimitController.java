@@ -0,0 +1,122 @@
+package br.com.marques.kontaktapi.config.resilience;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tunes a resilience4j limiter's {@code limit-for-period} from HubSpot's
+ * {@code X-HubSpot-RateLimit-*} response headers. The ceiling is HubSpot's own budget
+ * scaled to the limiter's refresh period; the limit climbs one step per response while
+ * the remaining share stays above {@code low-watermark}, and is halved (at most once per
+ * refresh period) when it drops below it or HubSpot answers 429.
+ */
+@Slf4j
+@Component
+public class AdaptiveRateLimitController {
+
+    static final String MAX_HEADER = "X-HubSpot-RateLimit-Max";
+    static final String REMAINING_HEADER = "X-HubSpot-RateLimit-Remaining";
+    static final String INTERVAL_HEADER = "X-HubSpot-RateLimit-Interval-Milliseconds";
+
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double lowWatermark;
+    private final int increaseStep;
+    private final AtomicLong remaining = new AtomicLong(-1);
+    private final Counter backoffs;
+    private long lastDecreaseNanos;
+
+    public AdaptiveRateLimitController(RateLimiterRegistry rateLimiterRegistry,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${hubspot.rate-limit.adaptive.enabled:true}") boolean enabled,
+                                       @Value("${hubspot.rate-limit.adaptive.limiter:hubspotRateLimiter}") String limiterName,
+                                       @Value("${hubspot.rate-limit.adaptive.min-limit:1}") int minLimit,
+                                       @Value("${hubspot.rate-limit.adaptive.max-limit:0}") int maxLimit,
+                                       @Value("${hubspot.rate-limit.adaptive.low-watermark:0.2}") double lowWatermark,
+                                       @Value("${hubspot.rate-limit.adaptive.increase-step:1}") int increaseStep) {
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(limiterName);
+        this.enabled = enabled;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = maxLimit;
+        this.lowWatermark = lowWatermark;
+        this.increaseStep = Math.max(1, increaseStep);
+        this.lastDecreaseNanos = System.nanoTime() - refreshPeriodNanos();
+
+        Gauge.builder("hubspot.ratelimit.limit", rateLimiter, limiter -> limiter.getRateLimiterConfig().getLimitForPeriod())
+                .description("Current limit-for-period of the adaptive HubSpot limiter")
+                .register(meterRegistry);
+        Gauge.builder("hubspot.ratelimit.remaining", remaining, AtomicLong::get)
+                .description("Requests HubSpot reported as remaining in its current interval")
+                .register(meterRegistry);
+        this.backoffs = Counter.builder("hubspot.ratelimit.backoffs")
+                .description("Times the adaptive HubSpot limiter halved its limit")
+                .register(meterRegistry);
+    }
+
+    public synchronized void onResponse(HttpStatusCode status, HttpHeaders headers) {
+        if (!enabled) return;
+
+        int current = rateLimiter.getRateLimiterConfig().getLimitForPeriod();
+        if (status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            decrease(current, "HubSpot answered 429");
+            return;
+        }
+
+        long max = headerValue(headers, MAX_HEADER);
+        long left = headerValue(headers, REMAINING_HEADER);
+        long intervalMs = headerValue(headers, INTERVAL_HEADER);
+        if (max <= 0 || left < 0 || intervalMs <= 0) return;
+        remaining.set(left);
+
+        long periodMs = rateLimiter.getRateLimiterConfig().getLimitRefreshPeriod().toMillis();
+        long ceiling = Math.max(minLimit, max * periodMs / intervalMs);
+        if (maxLimit > 0) ceiling = Math.min(ceiling, maxLimit);
+
+        if ((double) left / max < lowWatermark) {
+            decrease(current, left + " of " + max + " requests left");
+        } else if (current != ceiling) {
+            apply((int) Math.min(ceiling, current < ceiling ? current + increaseStep : ceiling));
+        }
+    }
+
+    private void decrease(int current, String reason) {
+        long now = System.nanoTime();
+        if (now - lastDecreaseNanos < refreshPeriodNanos()) return;
+        lastDecreaseNanos = now;
+        backoffs.increment();
+        int reduced = Math.max(minLimit, current / 2);
+        log.warn("Backing off {} from {} to {}: {}", rateLimiter.getName(), current, reduced, reason);
+        apply(reduced);
+    }
+
+    private void apply(int limit) {
+        if (limit != rateLimiter.getRateLimiterConfig().getLimitForPeriod()) rateLimiter.changeLimitForPeriod(limit);
+    }
+
+    private long refreshPeriodNanos() {
+        return rateLimiter.getRateLimiterConfig().getLimitRefreshPeriod().toNanos();
+    }
+
+    private static long headerValue(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        if (value == null) return -1;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package br.com.marques.kontaktapi.config.resilience;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cluster-wide token bucket for a resilience4j limiter name, kept in Redis and refilled
+ * by an atomic Lua script. Capacity and refill rate are the named limiter's
+ * {@code limit-for-period} per {@code limit-refresh-period}. Each node takes up to
+ * {@code prefetch} tokens per round trip and hands them out locally until they run out
+ * or the lease expires, so most calls never touch Redis. When disabled, or while Redis
+ * cannot be reached, permits come from the local resilience4j limiter instead; after a
+ * failed round trip Redis is skipped for {@code failure-cooldown-ms} so callers do not
+ * each wait out the Redis timeout.
+ */
+@Slf4j
+@Component
+public class DistributedRateLimiter {
+
+    static final String KEY_PREFIX = "ratelimit:";
+    static final RedisScript<Long> TOKEN_BUCKET =
+            RedisScript.of(new ClassPathResource("scripts/token-bucket.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final boolean enabled;
+    private final String defaultScope;
+    private final int prefetch;
+    private final long leaseNanos;
+    private final long failureCooldownNanos;
+    private volatile long redisRetryAtNanos = System.nanoTime();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+    private final Counter redisCalls;
+    private final Counter redisFailures;
+
+    public DistributedRateLimiter(StringRedisTemplate redisTemplate,
+                                  RateLimiterRegistry rateLimiterRegistry,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${hubspot.rate-limit.distributed.enabled:false}") boolean enabled,
+                                  @Value("${hubspot.rate-limit.distributed.scope:${hubspot.client.id}}") String defaultScope,
+                                  @Value("${hubspot.rate-limit.distributed.prefetch:5}") int prefetch,
+                                  @Value("${hubspot.rate-limit.distributed.lease-ms:1000}") long leaseMs,
+                                  @Value("${hubspot.rate-limit.distributed.failure-cooldown-ms:1000}") long failureCooldownMs) {
+        this.redisTemplate = redisTemplate;
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.enabled = enabled;
+        this.defaultScope = defaultScope;
+        this.prefetch = Math.max(1, prefetch);
+        this.leaseNanos = leaseMs * 1_000_000;
+        this.failureCooldownNanos = failureCooldownMs * 1_000_000;
+        this.redisCalls = Counter.builder("ratelimit.distributed.redis.calls")
+                .description("Token bucket round trips to Redis")
+                .register(meterRegistry);
+        this.redisFailures = Counter.builder("ratelimit.distributed.redis.failures")
+                .description("Token bucket calls that fell back to the local limiter")
+                .register(meterRegistry);
+    }
+
+    public boolean acquirePermission(String limiterName) {
+        return acquirePermission(limiterName, defaultScope);
+    }
+
+    /**
+     * Takes one permit from the bucket for {@code limiterName} shared by every node, scoped
+     * by {@code scope} (the HubSpot app by default, or a portal id).
+     */
+    public boolean acquirePermission(String limiterName, String scope) {
+        RateLimiter local = rateLimiterRegistry.rateLimiter(limiterName);
+        if (!enabled) return local.acquirePermission();
+
+        String bucket = limiterName + ":" + scope;
+        Lease lease = leases.get(bucket);
+        if (lease != null && lease.tryTake()) return true;
+        if (redisDegraded()) return local.acquirePermission();
+
+        ReentrantLock lock = locks.computeIfAbsent(bucket, key -> new ReentrantLock());
+        lock.lock();
+        try {
+            lease = leases.get(bucket);
+            if (lease != null && lease.tryTake()) return true;
+            if (redisDegraded()) return local.acquirePermission();
+
+            long granted = fetch(bucket, local.getRateLimiterConfig());
+            if (granted < 0) return local.acquirePermission();
+            if (granted == 0) return false;
+            leases.put(bucket, new Lease((int) granted - 1, System.nanoTime() + leaseNanos));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long fetch(String bucket, RateLimiterConfig config) {
+        int capacity = config.getLimitForPeriod();
+        double refillPerMs = (double) capacity / config.getLimitRefreshPeriod().toMillis();
+        try {
+            redisCalls.increment();
+            Long granted = redisTemplate.execute(TOKEN_BUCKET, List.of(KEY_PREFIX + bucket),
+                    String.valueOf(capacity), String.valueOf(refillPerMs), String.valueOf(Math.min(prefetch, capacity)));
+            if (granted != null) return granted;
+            markRedisFailed();
+        } catch (Exception e) {
+            markRedisFailed();
+            log.warn("Distributed rate limiter unavailable for {}; using the local limiter: {}", bucket, e.getMessage());
+        }
+        return -1;
+    }
+
+    private boolean redisDegraded() {
+        return System.nanoTime() - redisRetryAtNanos < 0;
+    }
+
+    private void markRedisFailed() {
+        redisFailures.increment();
+        redisRetryAtNanos = System.nanoTime() + failureCooldownNanos;
+    }
+
+    private static final class Lease {
+        private final AtomicInteger remaining;
+        private final long expiresAtNanos;
+
+        private Lease(int remaining, long expiresAtNanos) {
+            this.remaining = new AtomicInteger(remaining);
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean tryTake() {
+            if (System.nanoTime() - expiresAtNanos > 0) return false;
+            return remaining.getAndUpdate(left -> left > 0 ? left - 1 : 0) > 0;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.marques.kontaktapi.config.resilience;
+
+public enum RateLimiterType {
+    LOCAL,
+    DISTRIBUTED
+}
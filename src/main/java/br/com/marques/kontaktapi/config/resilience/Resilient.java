@@ -9,6 +9,7 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Resilient {
     String rateLimiter() default "";
+    RateLimiterType rateLimiterType() default RateLimiterType.LOCAL;
     String circuitBreaker() default "";
     String fallbackMethod() default "";
 }
@@ -23,12 +23,14 @@ public class ResilientAspect {
 
     private final RateLimiterRegistry rateLimiterRegistry;
     private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final DistributedRateLimiter distributedRateLimiter;
 
     @Around("@annotation(resilient)")
     public Object applyResilience(ProceedingJoinPoint joinPoint, Resilient resilient) throws Throwable {
         RateLimiter rateLimiter = resolveRateLimiter(resilient.rateLimiter());
         CircuitBreaker circuitBreaker = resolveCircuitBreaker(resilient.circuitBreaker());
-        Supplier<Object> decoratedSupplier = createDecoratedSupplier(joinPoint, rateLimiter, circuitBreaker);
+        Supplier<Object> decoratedSupplier = createDecoratedSupplier(joinPoint, rateLimiter, circuitBreaker,
+                resilient.rateLimiterType());
 
         try {
             return decoratedSupplier.get();
@@ -74,7 +76,8 @@ public class ResilientAspect {
 
     private Supplier<Object> createDecoratedSupplier(ProceedingJoinPoint joinPoint,
                                                      RateLimiter rateLimiter,
-                                                     CircuitBreaker circuitBreaker) {
+                                                     CircuitBreaker circuitBreaker,
+                                                     RateLimiterType rateLimiterType) {
         Supplier<Object> supplier = () -> {
             try {
                 return joinPoint.proceed();
@@ -86,12 +89,22 @@ public class ResilientAspect {
         if (circuitBreaker != null) {
             supplier = CircuitBreaker.decorateSupplier(circuitBreaker, supplier);
         }
-        if (rateLimiter != null) {
+        if (rateLimiter != null && rateLimiterType == RateLimiterType.DISTRIBUTED) {
+            supplier = decorateDistributed(rateLimiter, supplier);
+        } else if (rateLimiter != null) {
             supplier = RateLimiter.decorateSupplier(rateLimiter, supplier);
         }
         return supplier;
     }
 
+    private Supplier<Object> decorateDistributed(RateLimiter rateLimiter, Supplier<Object> supplier) {
+        return () -> {
+            if (!distributedRateLimiter.acquirePermission(rateLimiter.getName()))
+                throw RequestNotPermitted.createRequestNotPermitted(rateLimiter);
+            return supplier.get();
+        };
+    }
+
     private Object invokeFallback(ProceedingJoinPoint joinPoint, String fallbackMethodName, Exception exception)
             throws Throwable {
         Object target = joinPoint.getTarget();
@@ -0,0 +1,230 @@
+package br.com.marques.kontaktapi.config.security;
+
+import br.com.marques.kontaktapi.config.hubspot.HubspotSignatureVerifier;
+import br.com.marques.kontaktapi.config.hubspot.WebhookReplayGuard;
+import br.com.marques.kontaktapi.domain.dto.generic.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static br.com.marques.kontaktapi.config.hubspot.HmacValidationAspect.HOST;
+import static br.com.marques.kontaktapi.config.hubspot.HmacValidationAspect.X_HUB_SPOT_REQUEST_TIMESTAMP;
+import static br.com.marques.kontaktapi.config.hubspot.HmacValidationAspect.X_HUB_SPOT_SIGNATURE_V_3;
+
+/**
+ * Reads signed webhook bodies once into a pooled buffer, updating the HMAC as the bytes
+ * arrive, and records the outcome in {@link #SIGNATURE_VALID_ATTRIBUTE} for
+ * {@code @HmacValidation}. Downstream readers are served the same buffer. Stale
+ * timestamps are refused before the body is read and replayed signatures right after
+ * verification, so neither reaches Jackson or the database.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class HmacVerificationFilter implements Filter {
+    public static final String SIGNATURE_VALID_ATTRIBUTE = HmacVerificationFilter.class.getName() + ".SIGNATURE_VALID";
+
+    private final Set<String> ENDPOINTS_TO_VERIFY = Set.of(
+            "/api/hubspot/webhook/contact"
+    );
+
+    private final HubspotSignatureVerifier signatureVerifier;
+    private final WebhookReplayGuard replayGuard;
+    private final ObjectMapper objectMapper;
+    private final int initialBufferBytes;
+    private final int maxBodyBytes;
+    private final BlockingQueue<byte[]> pool;
+
+    public HmacVerificationFilter(HubspotSignatureVerifier signatureVerifier,
+                                  WebhookReplayGuard replayGuard,
+                                  ObjectMapper objectMapper,
+                                  @Value("${hubspot.webhook.body.initial-buffer-bytes:16384}") int initialBufferBytes,
+                                  @Value("${hubspot.webhook.body.max-bytes:1048576}") int maxBodyBytes,
+                                  @Value("${hubspot.webhook.body.pooled-buffers:32}") int pooledBuffers) {
+        this.signatureVerifier = signatureVerifier;
+        this.replayGuard = replayGuard;
+        this.objectMapper = objectMapper;
+        this.initialBufferBytes = Math.min(initialBufferBytes, maxBodyBytes);
+        this.maxBodyBytes = maxBodyBytes;
+        this.pool = new ArrayBlockingQueue<>(pooledBuffers);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request,
+                         ServletResponse response,
+                         FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        if (!HttpMethod.POST.matches(httpRequest.getMethod()) || !ENDPOINTS_TO_VERIFY.contains(httpRequest.getRequestURI())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (httpRequest.getContentLengthLong() > maxBodyBytes) {
+            rejectOversized((HttpServletResponse) response);
+            return;
+        }
+        String timestamp = httpRequest.getHeader(X_HUB_SPOT_REQUEST_TIMESTAMP);
+        if (!replayGuard.isFresh(timestamp)) {
+            log.warn("Rejecting webhook with stale timestamp {}", timestamp);
+            reject((HttpServletResponse) response, HttpStatus.UNAUTHORIZED, "Stale webhook timestamp");
+            return;
+        }
+
+        byte[] buffer = borrow();
+        try {
+            Mac mac = signatureVerifier.begin(httpRequest.getMethod(), httpRequest.getHeader(HOST), httpRequest.getRequestURI());
+            int length = 0;
+            try (InputStream body = httpRequest.getInputStream()) {
+                int read;
+                while ((read = body.read(buffer, length, buffer.length - length)) != -1) {
+                    mac.update(buffer, length, read);
+                    length += read;
+                    if (length == buffer.length) {
+                        if (buffer.length == maxBodyBytes) {
+                            if (body.read() == -1) break;
+                            mac.reset();
+                            rejectOversized((HttpServletResponse) response);
+                            return;
+                        }
+                        buffer = Arrays.copyOf(buffer, (int) Math.min((long) buffer.length * 2, maxBodyBytes));
+                    }
+                }
+            }
+
+            String signature = httpRequest.getHeader(X_HUB_SPOT_SIGNATURE_V_3);
+            boolean valid = signatureVerifier.matches(mac, timestamp, signature);
+            if (valid && !replayGuard.firstDelivery(signature, timestamp)) {
+                log.warn("Rejecting replayed webhook signature {}", signature);
+                reject((HttpServletResponse) response, HttpStatus.CONFLICT, "Webhook already delivered");
+                return;
+            }
+            httpRequest.setAttribute(SIGNATURE_VALID_ATTRIBUTE, valid);
+            chain.doFilter(new BufferedBodyRequest(httpRequest, buffer, length), response);
+        } finally {
+            // Grown buffers are dropped so the pool stays at initial-buffer-bytes per entry, and a
+            // body an async request may still be reading is never handed to another request.
+            if (buffer.length == initialBufferBytes && !httpRequest.isAsyncStarted()) pool.offer(buffer);
+        }
+    }
+
+    int pooledBuffers() {
+        return pool.size();
+    }
+
+    private byte[] borrow() {
+        byte[] buffer = pool.poll();
+        return buffer != null ? buffer : new byte[initialBufferBytes];
+    }
+
+    private void rejectOversized(HttpServletResponse response) throws IOException {
+        log.warn("Rejecting webhook body larger than {} bytes", maxBodyBytes);
+        reject(response, HttpStatus.PAYLOAD_TOO_LARGE, "Webhook body exceeds " + maxBodyBytes + " bytes");
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(message, status));
+    }
+
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] buffer;
+        private final int length;
+
+        private BufferedBodyRequest(HttpServletRequest request, byte[] buffer, int length) {
+            super(request);
+            this.buffer = buffer;
+            this.length = length;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                private int position;
+
+                @Override
+                public int read() {
+                    return position < length ? buffer[position++] & 0xff : -1;
+                }
+
+                @Override
+                public int read(byte[] target, int offset, int count) {
+                    if (position >= length) return -1;
+                    int copied = Math.min(count, length - position);
+                    System.arraycopy(buffer, position, target, offset, copied);
+                    position += copied;
+                    return copied;
+                }
+
+                @Override
+                public int available() {
+                    return length - position;
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return position >= length;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) readListener.onDataAvailable();
+                        if (isFinished()) readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return length;
+        }
+    }
+}
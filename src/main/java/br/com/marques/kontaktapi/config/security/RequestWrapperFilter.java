@@ -1,35 +0,0 @@
-package br.com.marques.kontaktapi.config.security;
-
-import jakarta.servlet.Filter;
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletRequest;
-import jakarta.servlet.ServletResponse;
-import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.stereotype.Component;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-
-import java.io.IOException;
-import java.util.Set;
-
-@Component
-public class RequestWrapperFilter implements Filter {
-    private final Set<String> ENDPOINTS_TO_CACHE = Set.of(
-            "/api/hubspot/webhook/contact"
-    );
-
-    @Override
-    public void doFilter(ServletRequest request,
-                         ServletResponse response,
-                         FilterChain chain) throws IOException, ServletException {
-        HttpServletRequest httpRequest = (HttpServletRequest) request;
-        String requestUri = httpRequest.getRequestURI();
-
-        if (ENDPOINTS_TO_CACHE.contains(requestUri)) {
-            ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(httpRequest);
-            chain.doFilter(wrappedRequest, response);
-        } else {
-            chain.doFilter(request, response);
-        }
-    }
-}
\ No newline at end of file
@@ -60,6 +60,7 @@ public class SecurityConfig {
                                 .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
                                 .requestMatchers(HttpMethod.POST, "/api/user").permitAll()
                                 .requestMatchers(HttpMethod.POST, "/api/hubspot/webhook/contact").permitAll()
+                                .requestMatchers(HttpMethod.POST, "/api/hubspot/webhook/contact/stream").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/hubspot/callback").permitAll()
                                 .requestMatchers(AUTH_WHITE_LIST).permitAll()
                                 .anyRequest()//.permitAll()
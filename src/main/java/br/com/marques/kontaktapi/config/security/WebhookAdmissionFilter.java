@@ -0,0 +1,77 @@
+package br.com.marques.kontaktapi.config.security;
+
+import br.com.marques.kontaktapi.domain.dto.generic.ErrorResponse;
+import br.com.marques.kontaktapi.service.webhook.WebhookAdmissionController;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Set;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WebhookAdmissionFilter implements Filter {
+    private final Set<String> ENDPOINTS_TO_GUARD = Set.of(
+            "/api/hubspot/webhook/contact",
+            "/api/hubspot/webhook/contact/stream"
+    );
+
+    private final WebhookAdmissionController admissionController;
+    private final ObjectMapper objectMapper;
+    private final long retryAfterSeconds;
+
+    public WebhookAdmissionFilter(WebhookAdmissionController admissionController,
+                                  ObjectMapper objectMapper,
+                                  @Value("${hubspot.webhook.admission.retry-after-seconds:30}") long retryAfterSeconds) {
+        this.admissionController = admissionController;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request,
+                         ServletResponse response,
+                         FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        if (!HttpMethod.POST.matches(httpRequest.getMethod()) || !ENDPOINTS_TO_GUARD.contains(httpRequest.getRequestURI())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        WebhookAdmissionController.Decision decision = admissionController.tryAcquire();
+        if (decision != WebhookAdmissionController.Decision.ADMITTED) {
+            log.warn("Shedding webhook delivery: {}", decision);
+            reject((HttpServletResponse) response, decision);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            admissionController.release();
+        }
+    }
+
+    private void reject(HttpServletResponse response,
+                        WebhookAdmissionController.Decision decision) throws IOException {
+        response.setStatus(decision.status().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse("Webhook endpoint is shedding load, retry later", decision.status()));
+    }
+}
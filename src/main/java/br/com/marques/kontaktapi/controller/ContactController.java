@@ -2,14 +2,17 @@ package br.com.marques.kontaktapi.controller;
 
 import br.com.marques.kontaktapi.service.gateway.ContactServiceGateway;
 import br.com.marques.kontaktapi.domain.dto.contact.ContactRequest;
+import br.com.marques.kontaktapi.domain.dto.hubspot.HubspotContact;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -44,4 +47,13 @@ public class ContactController {
                 .map(ResponseEntity::ok)
                 .onErrorResume(e -> Mono.just(ResponseEntity.badRequest().build()));
     }
+
+    @Operation(summary = "Streams every HubSpot contact as NDJSON, following HubSpot's paging cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contacts streamed")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<HubspotContact> streamContacts(@RequestParam(defaultValue = "100") int pageSize) {
+        return contactServiceGateway.streamContacts(pageSize);
+    }
 }
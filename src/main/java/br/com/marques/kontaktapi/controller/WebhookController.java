@@ -1,17 +1,36 @@
 package br.com.marques.kontaktapi.controller;
 
+import br.com.marques.kontaktapi.service.gateway.WebhookQueryServiceGateway;
 import br.com.marques.kontaktapi.service.gateway.WebhookServiceGateway;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventFilter;
 import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventView;
+import br.com.marques.kontaktapi.domain.dto.contact.EventRollupBucket;
+import br.com.marques.kontaktapi.domain.dto.generic.CursorPage;
+import br.com.marques.kontaktapi.domain.dto.generic.SlicePage;
 import br.com.marques.kontaktapi.domain.entity.ContactCreationEventEntity;
 import br.com.marques.kontaktapi.config.hubspot.HmacValidation;
+import br.com.marques.kontaktapi.service.webhook.EventRollupStore;
+import br.com.marques.kontaktapi.service.webhook.WebhookEventBroadcaster;
+import br.com.marques.kontaktapi.service.webhook.RollupGranularity;
+import br.com.marques.kontaktapi.service.webhook.StreamingWebhookIngestor;
+import br.com.marques.kontaktapi.service.webhook.WebhookEventExporter;
+import br.com.marques.kontaktapi.service.webhook.WebhookExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Tag(name = "Webhook", description = "Contact Webhook management")
@@ -21,6 +40,11 @@ import java.util.List;
 public class WebhookController {
 
     private final WebhookServiceGateway<ContactCreationEventEntity, ContactCreationEventRequest> webhookServiceGateway;
+    private final WebhookQueryServiceGateway<ContactCreationEventView, ContactCreationEventFilter> webhookQueryServiceGateway;
+    private final StreamingWebhookIngestor streamingWebhookIngestor;
+    private final WebhookEventExporter webhookEventExporter;
+    private final EventRollupStore eventRollupStore;
+    private final WebhookEventBroadcaster webhookEventBroadcaster;
 
     @HmacValidation
     @Operation(summary = "Process contact creation webhook events")
@@ -30,6 +54,13 @@ public class WebhookController {
         return ResponseEntity.ok().build();
     }
 
+    @Operation(summary = "Process contact creation webhook events, parsing them while the body streams in and persisting them once the signature matches")
+    @PostMapping(value = "/contact/stream", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Void> handleContactCreationWebhookStream(HttpServletRequest request) throws IOException {
+        streamingWebhookIngestor.ingest(request);
+        return ResponseEntity.ok().build();
+    }
+
     @Operation(summary = "Retrieves contact creation webhook events with pagination")
     @GetMapping(value = "/contact")
     public ResponseEntity<Page<ContactCreationEventEntity>> listContactCreationEvents(
@@ -38,4 +69,79 @@ public class WebhookController {
         Page<ContactCreationEventEntity> page = webhookServiceGateway.listEvents(pageNumber, size);
         return ResponseEntity.ok(page);
     }
+
+    @Operation(summary = "Retrieves contact creation webhook events with pagination, without counting every row")
+    @GetMapping(value = "/contact/slice")
+    public ResponseEntity<SlicePage<ContactCreationEventEntity>> listContactCreationEventsSlice(
+                                        @RequestParam(defaultValue = "0") Integer pageNumber,
+                                        @RequestParam(defaultValue = "10") Integer size,
+                                        @RequestParam(defaultValue = "false") boolean estimateTotal) {
+        SlicePage<ContactCreationEventEntity> slice = webhookServiceGateway.listEventsSlice(pageNumber, size, estimateTotal);
+        return ResponseEntity.ok(slice);
+    }
+
+    @Operation(summary = "Retrieves contact creation webhook events, newest first, using an opaque continuation cursor")
+    @GetMapping(value = "/contact/cursor")
+    public ResponseEntity<CursorPage<ContactCreationEventEntity>> listContactCreationEventsByCursor(
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(defaultValue = "10") Integer size) {
+        CursorPage<ContactCreationEventEntity> page = webhookServiceGateway.listEventsAfter(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(summary = "Searches contact creation webhook events by portal, object, subscription type, change source and occurrence range")
+    @GetMapping(value = "/contact/search")
+    public ResponseEntity<CursorPage<ContactCreationEventView>> searchContactCreationEvents(
+                                        @RequestParam(required = false) Long portalId,
+                                        @RequestParam(required = false) Long objectId,
+                                        @RequestParam(required = false) String subscriptionType,
+                                        @RequestParam(required = false) String changeSource,
+                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurredFrom,
+                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurredTo,
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(defaultValue = "10") Integer size) {
+        ContactCreationEventFilter filter = new ContactCreationEventFilter(
+                portalId, objectId, subscriptionType, changeSource, occurredFrom, occurredTo);
+        return ResponseEntity.ok(webhookQueryServiceGateway.search(filter, cursor, size));
+    }
+
+    @Operation(summary = "Exports matching contact creation webhook events as NDJSON or CSV, streamed from a database cursor")
+    @GetMapping(value = "/contact/export")
+    public ResponseEntity<StreamingResponseBody> exportContactCreationEvents(
+                                        @RequestParam(required = false) Long portalId,
+                                        @RequestParam(required = false) Long objectId,
+                                        @RequestParam(required = false) String subscriptionType,
+                                        @RequestParam(required = false) String changeSource,
+                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurredFrom,
+                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurredTo,
+                                        @RequestParam(defaultValue = "ndjson") String format,
+                                        @RequestParam(defaultValue = "false") boolean gzip) {
+        WebhookExportFormat exportFormat = WebhookExportFormat.from(format);
+        ContactCreationEventFilter filter = new ContactCreationEventFilter(
+                portalId, objectId, subscriptionType, changeSource, occurredFrom, occurredTo);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"contact-creation-events." + exportFormat.extension() + "\"");
+        if (gzip) response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+        return response.body(out -> webhookEventExporter.export(filter, exportFormat, gzip, out));
+    }
+
+    @Operation(summary = "Retrieves per-portal event counts and distinct contact estimates per minute, hour or day bucket (UTC)")
+    @GetMapping(value = "/contact/stats")
+    public ResponseEntity<List<EventRollupBucket>> contactCreationEventStats(
+                                        @RequestParam Long portalId,
+                                        @RequestParam(defaultValue = "hour") String granularity,
+                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(eventRollupStore.read(portalId, RollupGranularity.from(granularity), from, to));
+    }
+
+    @Operation(summary = "Streams newly ingested contact creation webhook events as Server-Sent Events, optionally for one portal")
+    @GetMapping(value = "/contact/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamContactCreationEvents(@RequestParam(required = false) Long portalId) {
+        return webhookEventBroadcaster.subscribe(portalId);
+    }
 }
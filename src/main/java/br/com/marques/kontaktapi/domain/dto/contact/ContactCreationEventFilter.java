@@ -0,0 +1,21 @@
+package br.com.marques.kontaktapi.domain.dto.contact;
+
+import java.time.LocalDateTime;
+
+public record ContactCreationEventFilter(
+        Long portalId,
+        Long objectId,
+        String subscriptionType,
+        String changeSource,
+        LocalDateTime occurredFrom,
+        LocalDateTime occurredTo
+) {
+    public ContactCreationEventFilter {
+        if (occurredFrom != null && occurredTo != null && !occurredFrom.isBefore(occurredTo))
+            throw new IllegalArgumentException("occurredFrom must be before occurredTo");
+    }
+
+    public static ContactCreationEventFilter empty() {
+        return new ContactCreationEventFilter(null, null, null, null, null, null);
+    }
+}
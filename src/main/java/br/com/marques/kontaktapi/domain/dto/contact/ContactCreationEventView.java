@@ -0,0 +1,18 @@
+package br.com.marques.kontaktapi.domain.dto.contact;
+
+import java.time.LocalDateTime;
+
+public record ContactCreationEventView(
+        Long id,
+        Long eventId,
+        Long subscriptionId,
+        Long portalId,
+        Long appId,
+        LocalDateTime occurredAt,
+        String subscriptionType,
+        Integer attemptNumber,
+        Long objectId,
+        String changeFlag,
+        String changeSource
+) {
+}
@@ -0,0 +1,6 @@
+package br.com.marques.kontaktapi.domain.dto.contact;
+
+import java.time.LocalDateTime;
+
+public record EventRollupBucket(LocalDateTime bucketStart, long events, long distinctObjects) {
+}
@@ -0,0 +1,9 @@
+package br.com.marques.kontaktapi.domain.dto.generic;
+
+import java.util.List;
+
+public record CursorPage<T>(List<T> content, int size, String nextCursor) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
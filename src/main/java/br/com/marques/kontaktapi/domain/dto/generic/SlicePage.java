@@ -0,0 +1,6 @@
+package br.com.marques.kontaktapi.domain.dto.generic;
+
+import java.util.List;
+
+public record SlicePage<T>(List<T> content, int pageNumber, int size, boolean hasNext, Long estimatedTotal) {
+}
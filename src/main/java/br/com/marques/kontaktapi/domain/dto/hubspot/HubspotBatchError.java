@@ -0,0 +1,12 @@
+package br.com.marques.kontaktapi.domain.dto.hubspot;
+
+import java.util.List;
+import java.util.Map;
+
+public record HubspotBatchError(
+        String status,
+        String category,
+        String message,
+        Map<String, List<String>> context
+) {
+}
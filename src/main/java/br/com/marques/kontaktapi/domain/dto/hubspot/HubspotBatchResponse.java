@@ -0,0 +1,11 @@
+package br.com.marques.kontaktapi.domain.dto.hubspot;
+
+import java.util.List;
+import java.util.Map;
+
+public record HubspotBatchResponse(
+        String status,
+        List<Map<String, Object>> results,
+        List<HubspotBatchError> errors
+) {
+}
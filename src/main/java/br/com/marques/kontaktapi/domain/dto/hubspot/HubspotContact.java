@@ -0,0 +1,12 @@
+package br.com.marques.kontaktapi.domain.dto.hubspot;
+
+import java.util.Map;
+
+public record HubspotContact(
+        String id,
+        Map<String, String> properties,
+        String createdAt,
+        String updatedAt,
+        Boolean archived
+) {
+}
@@ -0,0 +1,18 @@
+package br.com.marques.kontaktapi.domain.dto.hubspot;
+
+import java.util.List;
+
+public record HubspotContactPage(
+        List<HubspotContact> results,
+        Paging paging
+) {
+    public record Paging(Next next) {
+    }
+
+    public record Next(String after, String link) {
+    }
+
+    public String nextAfter() {
+        return paging == null || paging.next() == null ? null : paging.next().after();
+    }
+}
@@ -8,7 +8,15 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 @Entity
-@Table(name = "contact_creation_events")
+@Table(name = "contact_creation_events",
+        uniqueConstraints = @UniqueConstraint(name = "uk_contact_creation_events_event_id", columnNames = {"event_id", "occurred_at"}),
+        indexes = {
+                @Index(name = "idx_contact_creation_events_occurred_at_id", columnList = "occurred_at, id"),
+                @Index(name = "idx_contact_creation_events_portal_occurred_at", columnList = "portal_id, occurred_at, id"),
+                @Index(name = "idx_contact_creation_events_object_occurred_at", columnList = "object_id, occurred_at, id"),
+                @Index(name = "idx_contact_creation_events_subscription_type_occurred_at", columnList = "subscription_type, occurred_at, id"),
+                @Index(name = "idx_contact_creation_events_change_source_occurred_at", columnList = "change_source, occurred_at, id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -46,7 +54,7 @@ public class ContactCreationEventEntity {
                 .build();
     }
 
-    private static LocalDateTime convertLongToLocalDateTime(Long timestamp) {
+    public static LocalDateTime convertLongToLocalDateTime(Long timestamp) {
         return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
     }
 }
@@ -0,0 +1,82 @@
+package br.com.marques.kontaktapi.domain.repository;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static br.com.marques.kontaktapi.domain.entity.ContactCreationEventEntity.convertLongToLocalDateTime;
+
+@Repository
+public class ContactCreationEventBatchRepository {
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO contact_creation_events
+                (event_id, subscription_id, portal_id, app_id, occurred_at, subscription_type,
+                 attempt_number, object_id, change_flag, change_source)
+            VALUES\s""";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SUFFIX = " ON CONFLICT DO NOTHING RETURNING event_id";
+    private static final int COLUMNS = 10;
+    private static final int MAX_PARAMETERS = Short.MAX_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int rowsPerStatement;
+
+    public ContactCreationEventBatchRepository(JdbcTemplate jdbcTemplate,
+                                               @Value("${hubspot.webhook.insert.rows-per-statement:1000}") int rowsPerStatement) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rowsPerStatement = Math.min(rowsPerStatement, MAX_PARAMETERS / COLUMNS);
+    }
+
+    public List<ContactCreationEventRequest> insertIgnoringDuplicates(List<ContactCreationEventRequest> events) {
+        List<ContactCreationEventRequest> inserted = new ArrayList<>(events.size());
+        for (int from = 0; from < events.size(); from += rowsPerStatement) {
+            List<ContactCreationEventRequest> chunk = events.subList(from, Math.min(from + rowsPerStatement, events.size()));
+            Set<Long> insertedEventIds = new HashSet<>(jdbcTemplate.query(
+                    multiRowInsert(chunk.size()),
+                    ps -> bindRows(ps, chunk),
+                    (rs, rowNum) -> rs.getObject(1, Long.class)));
+
+            for (ContactCreationEventRequest event : chunk) {
+                if (event.eventId() == null || insertedEventIds.remove(event.eventId())) inserted.add(event);
+            }
+        }
+        return inserted;
+    }
+
+    private static String multiRowInsert(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDERS.length() + 1) + INSERT_SUFFIX.length());
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sql.append(',');
+            sql.append(ROW_PLACEHOLDERS);
+        }
+        return sql.append(INSERT_SUFFIX).toString();
+    }
+
+    private static void bindRows(PreparedStatement ps, List<ContactCreationEventRequest> events) throws SQLException {
+        int index = 1;
+        for (ContactCreationEventRequest event : events) {
+            ps.setObject(index++, event.eventId(), Types.BIGINT);
+            ps.setObject(index++, event.subscriptionId(), Types.BIGINT);
+            ps.setObject(index++, event.portalId(), Types.BIGINT);
+            ps.setObject(index++, event.appId(), Types.BIGINT);
+            ps.setTimestamp(index++, Timestamp.valueOf(convertLongToLocalDateTime(event.occurredAt())));
+            ps.setString(index++, event.subscriptionType());
+            ps.setObject(index++, event.attemptNumber(), Types.INTEGER);
+            ps.setObject(index++, event.objectId(), Types.BIGINT);
+            ps.setString(index++, event.changeFlag());
+            ps.setString(index++, event.changeSource());
+        }
+    }
+}
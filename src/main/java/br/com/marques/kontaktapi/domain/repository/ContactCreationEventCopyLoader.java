@@ -0,0 +1,118 @@
+package br.com.marques.kontaktapi.domain.repository;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static br.com.marques.kontaktapi.domain.entity.ContactCreationEventEntity.convertLongToLocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class ContactCreationEventCopyLoader {
+
+    private static final String COLUMNS = """
+            event_id, subscription_id, portal_id, app_id, occurred_at, subscription_type,
+            attempt_number, object_id, change_flag, change_source""";
+    private static final String CREATE_STAGING = "CREATE TEMP TABLE IF NOT EXISTS contact_creation_events_staging "
+            + "ON COMMIT DELETE ROWS AS SELECT " + COLUMNS + " FROM contact_creation_events WITH NO DATA";
+    private static final String TRUNCATE_STAGING = "TRUNCATE contact_creation_events_staging";
+    private static final String COPY_INTO_STAGING = "COPY contact_creation_events_staging (" + COLUMNS + ") FROM STDIN";
+    private static final String MERGE_STAGING = "INSERT INTO contact_creation_events (" + COLUMNS + ") SELECT " + COLUMNS
+            + " FROM contact_creation_events_staging ON CONFLICT DO NOTHING";
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public List<ContactCreationEventRequest> load(List<ContactCreationEventRequest> events) {
+        if (events.isEmpty()) return List.of();
+
+        copyIntoStaging(events);
+        Set<Long> insertedEventIds = new HashSet<>(jdbcTemplate.queryForList(MERGE_STAGING + " RETURNING event_id", Long.class));
+
+        List<ContactCreationEventRequest> inserted = new ArrayList<>(insertedEventIds.size());
+        for (ContactCreationEventRequest event : events) {
+            if (event.eventId() == null || insertedEventIds.remove(event.eventId())) inserted.add(event);
+        }
+        return inserted;
+    }
+
+    private void copyIntoStaging(List<ContactCreationEventRequest> events) {
+        jdbcTemplate.execute(CREATE_STAGING);
+        jdbcTemplate.execute(TRUNCATE_STAGING);
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_INTO_STAGING);
+            try {
+                StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 512);
+                for (ContactCreationEventRequest event : events) {
+                    appendRow(buffer, event);
+                    if (buffer.length() >= FLUSH_THRESHOLD) flush(copyIn, buffer);
+                }
+                flush(copyIn, buffer);
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) copyIn.cancelCopy();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Error copying contact creation events", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) return;
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static void appendRow(StringBuilder row, ContactCreationEventRequest event) {
+        appendValue(row, event.eventId()).append('\t');
+        appendValue(row, event.subscriptionId()).append('\t');
+        appendValue(row, event.portalId()).append('\t');
+        appendValue(row, event.appId()).append('\t');
+        appendValue(row, event.occurredAt() == null ? null : convertLongToLocalDateTime(event.occurredAt())).append('\t');
+        appendText(row, event.subscriptionType()).append('\t');
+        appendValue(row, event.attemptNumber()).append('\t');
+        appendValue(row, event.objectId()).append('\t');
+        appendText(row, event.changeFlag()).append('\t');
+        appendText(row, event.changeSource()).append('\n');
+    }
+
+    private static StringBuilder appendValue(StringBuilder row, Object value) {
+        return value == null ? row.append("\\N") : row.append(value);
+    }
+
+    private static StringBuilder appendText(StringBuilder row, String value) {
+        if (value == null) return row.append("\\N");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> row.append("\\\\");
+                case '\t' -> row.append("\\t");
+                case '\n' -> row.append("\\n");
+                case '\r' -> row.append("\\r");
+                default -> row.append(c);
+            }
+        }
+        return row;
+    }
+}
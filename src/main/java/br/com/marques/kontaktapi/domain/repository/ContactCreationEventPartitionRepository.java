@@ -0,0 +1,79 @@
+package br.com.marques.kontaktapi.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ContactCreationEventPartitionRepository {
+
+    public static final String PARENT_TABLE = "contact_creation_events";
+    public static final String DEFAULT_PARTITION = PARENT_TABLE + "_default";
+    static final String DEFAULT_ARCHIVE = DEFAULT_PARTITION + "_archive";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))",
+                Boolean.class, PARENT_TABLE);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    public long estimateRowCount() {
+        Long estimate = jdbcTemplate.queryForObject("""
+                SELECT COALESCE(SUM(GREATEST(c.reltuples, 0)), 0)::bigint FROM pg_class c
+                WHERE c.oid = to_regclass(?)
+                   OR c.oid IN (SELECT i.inhrelid FROM pg_inherits i WHERE i.inhparent = to_regclass(?))""",
+                Long.class, PARENT_TABLE, PARENT_TABLE);
+        return estimate == null ? 0 : estimate;
+    }
+
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?)
+                ORDER BY c.relname""", String.class, PARENT_TABLE);
+    }
+
+    /**
+     * Rows already routed to the DEFAULT partition for this range would make a plain
+     * {@code PARTITION OF} fail, so the partition is created detached, those rows are moved
+     * into it and it is attached, in one transaction.
+     */
+    @Transactional
+    public void createPartition(String partitionName, LocalDate from, LocalDate to) {
+        jdbcTemplate.execute("CREATE TABLE " + partitionName + " (LIKE " + PARENT_TABLE + ")");
+        jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                + " WHERE occurred_at >= ? AND occurred_at < ? RETURNING *) INSERT INTO " + partitionName
+                + " SELECT * FROM moved", from.atStartOfDay(), to.atStartOfDay());
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + partitionName
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+    }
+
+    public int deleteDefaultPartitionRowsBefore(LocalDate before) {
+        return jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE occurred_at < ?", before.atStartOfDay());
+    }
+
+    @Transactional
+    public int archiveDefaultPartitionRowsBefore(LocalDate before) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + DEFAULT_ARCHIVE + " (LIKE " + PARENT_TABLE + ")");
+        return jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                + " WHERE occurred_at < ? RETURNING *) INSERT INTO " + DEFAULT_ARCHIVE
+                + " SELECT * FROM moved", before.atStartOfDay());
+    }
+
+    public void detachPartition(String partitionName) {
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partitionName);
+    }
+
+    public void dropPartition(String partitionName) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName);
+    }
+}
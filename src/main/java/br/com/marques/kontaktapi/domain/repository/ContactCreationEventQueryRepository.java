@@ -0,0 +1,16 @@
+package br.com.marques.kontaktapi.domain.repository;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventCursor;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventFilter;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventView;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ContactCreationEventQueryRepository {
+    List<ContactCreationEventView> findViews(ContactCreationEventFilter filter,
+                                             ContactCreationEventCursor after,
+                                             int limit);
+    Stream<ContactCreationEventView> streamViews(ContactCreationEventFilter filter,
+                                                 int fetchSize);
+}
@@ -0,0 +1,83 @@
+package br.com.marques.kontaktapi.domain.repository;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventCursor;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventFilter;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventView;
+import br.com.marques.kontaktapi.domain.entity.ContactCreationEventEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class ContactCreationEventQueryRepositoryImpl implements ContactCreationEventQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ContactCreationEventView> findViews(ContactCreationEventFilter filter,
+                                                    ContactCreationEventCursor after,
+                                                    int limit) {
+        return entityManager.createQuery(viewQuery(filter, after))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<ContactCreationEventView> streamViews(ContactCreationEventFilter filter, int fetchSize) {
+        return entityManager.createQuery(viewQuery(filter, null))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private CriteriaQuery<ContactCreationEventView> viewQuery(ContactCreationEventFilter filter,
+                                                              ContactCreationEventCursor after) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ContactCreationEventView> query = cb.createQuery(ContactCreationEventView.class);
+        Root<ContactCreationEventEntity> root = query.from(ContactCreationEventEntity.class);
+
+        return query.select(cb.construct(ContactCreationEventView.class,
+                        root.get("id"),
+                        root.get("eventId"),
+                        root.get("subscriptionId"),
+                        root.get("portalId"),
+                        root.get("appId"),
+                        root.get("occurredAt"),
+                        root.get("subscriptionType"),
+                        root.get("attemptNumber"),
+                        root.get("objectId"),
+                        root.get("changeFlag"),
+                        root.get("changeSource")))
+                .where(predicates(cb, root, filter, after).toArray(Predicate[]::new))
+                .orderBy(cb.desc(root.get("occurredAt")), cb.desc(root.get("id")));
+    }
+
+    static List<Predicate> predicates(CriteriaBuilder cb,
+                                      Root<ContactCreationEventEntity> root,
+                                      ContactCreationEventFilter filter,
+                                      ContactCreationEventCursor after) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.portalId() != null) predicates.add(cb.equal(root.get("portalId"), filter.portalId()));
+        if (filter.objectId() != null) predicates.add(cb.equal(root.get("objectId"), filter.objectId()));
+        if (filter.subscriptionType() != null) predicates.add(cb.equal(root.get("subscriptionType"), filter.subscriptionType()));
+        if (filter.changeSource() != null) predicates.add(cb.equal(root.get("changeSource"), filter.changeSource()));
+        if (filter.occurredFrom() != null) predicates.add(cb.greaterThanOrEqualTo(root.get("occurredAt"), filter.occurredFrom()));
+        if (filter.occurredTo() != null) predicates.add(cb.lessThan(root.get("occurredAt"), filter.occurredTo()));
+
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(root.get("occurredAt"), after.occurredAt()),
+                    cb.and(cb.equal(root.get("occurredAt"), after.occurredAt()),
+                            cb.lessThan(root.get("id"), after.id()))));
+        }
+        return predicates;
+    }
+}
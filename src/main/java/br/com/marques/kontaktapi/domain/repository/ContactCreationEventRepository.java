@@ -1,9 +1,38 @@
 package br.com.marques.kontaktapi.domain.repository;
 
 import br.com.marques.kontaktapi.domain.entity.ContactCreationEventEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 @Repository
-public interface ContactCreationEventRepository extends JpaRepository<ContactCreationEventEntity, Long> {
+public interface ContactCreationEventRepository extends JpaRepository<ContactCreationEventEntity, Long>,
+        ContactCreationEventQueryRepository {
+    @Query("select e.eventId from ContactCreationEventEntity e where e.eventId in :eventIds")
+    Set<Long> findExistingEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    Slice<ContactCreationEventEntity> findAllBy(Pageable pageable);
+
+    @Query(value = """
+            SELECT * FROM contact_creation_events
+            ORDER BY occurred_at DESC, id DESC
+            LIMIT :limit""", nativeQuery = true)
+    List<ContactCreationEventEntity> findLatest(@Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM contact_creation_events
+            WHERE (occurred_at, id) < (:occurredAt, :id)
+            ORDER BY occurred_at DESC, id DESC
+            LIMIT :limit""", nativeQuery = true)
+    List<ContactCreationEventEntity> findOlderThan(@Param("occurredAt") LocalDateTime occurredAt,
+                                                   @Param("id") Long id,
+                                                   @Param("limit") int limit);
 }
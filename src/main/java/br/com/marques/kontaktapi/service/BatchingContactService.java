@@ -0,0 +1,89 @@
+package br.com.marques.kontaktapi.service;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactRequest;
+import br.com.marques.kontaktapi.domain.dto.hubspot.HubspotContact;
+import br.com.marques.kontaktapi.domain.dto.hubspot.OAuthCallbackRequest;
+import br.com.marques.kontaktapi.domain.dto.hubspot.OAuthTokenResponse;
+import br.com.marques.kontaktapi.domain.dto.user.LoginRequest;
+import br.com.marques.kontaktapi.domain.dto.user.TokenResponse;
+import br.com.marques.kontaktapi.domain.entity.User;
+import br.com.marques.kontaktapi.service.contact.ContactCreateCoalescer;
+import br.com.marques.kontaktapi.service.contact.ContactListCache;
+import br.com.marques.kontaktapi.service.gateway.AuthenticationServiceGateway;
+import br.com.marques.kontaktapi.service.gateway.ContactServiceGateway;
+import br.com.marques.kontaktapi.service.gateway.OAuthServiceGateway;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Primary
+@Service
+@ConditionalOnProperty(name = "hubspot.contacts.batching.enabled", havingValue = "true")
+public class BatchingContactService implements ContactServiceGateway {
+    private final ContactService contactService;
+    private final AuthenticationServiceGateway<User, LoginRequest, TokenResponse> authenticationService;
+    private final OAuthServiceGateway<OAuthCallbackRequest, OAuthTokenResponse> oAuthService;
+    private final ContactCreateCoalescer coalescer;
+    private final ContactListCache contactListCache;
+    private final long waitTimeoutMs;
+
+    public BatchingContactService(ContactService contactService,
+                                  AuthenticationServiceGateway<User, LoginRequest, TokenResponse> authenticationService,
+                                  OAuthServiceGateway<OAuthCallbackRequest, OAuthTokenResponse> oAuthService,
+                                  ContactCreateCoalescer coalescer,
+                                  ContactListCache contactListCache,
+                                  @Value("${hubspot.contacts.batching.wait-timeout-ms:30000}") long waitTimeoutMs) {
+        this.contactService = contactService;
+        this.authenticationService = authenticationService;
+        this.oAuthService = oAuthService;
+        this.coalescer = coalescer;
+        this.contactListCache = contactListCache;
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    @Override
+    public void createContact(ContactRequest contactRequest) {
+        User loggedUser = authenticationService.getAuthenticated();
+        Long userId = loggedUser.getId();
+
+        String accessToken = oAuthService.getAccessTokenByUserId(userId);
+        if (Objects.isNull(accessToken) || accessToken.isEmpty())
+            throw new IllegalStateException("HubSpot access token not available for user " + userId);
+
+        Map<String, Object> input = contactService.buildRequestBody(contactRequest);
+        try {
+            coalescer.submit(accessToken, input).get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException("Contact creation failed for user " + userId, e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timed out waiting for HubSpot batch create for user " + userId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating contact for user " + userId, e);
+        }
+        contactListCache.invalidateUser(userId);
+        log.info("Contact created successfully for user {}", userId);
+    }
+
+    @Override
+    public Mono<Map<String, Object>> listContacts() {
+        return contactService.listContacts();
+    }
+
+    @Override
+    public Flux<HubspotContact> streamContacts(int pageSize) {
+        return contactService.streamContacts(pageSize);
+    }
+}
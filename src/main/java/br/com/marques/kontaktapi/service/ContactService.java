@@ -1,6 +1,8 @@
 package br.com.marques.kontaktapi.service;
 
 import br.com.marques.kontaktapi.config.hubspot.HubspotApiHelper;
+import br.com.marques.kontaktapi.domain.dto.hubspot.HubspotContact;
+import br.com.marques.kontaktapi.domain.dto.hubspot.HubspotContactPage;
 import br.com.marques.kontaktapi.domain.dto.hubspot.OAuthCallbackRequest;
 import br.com.marques.kontaktapi.domain.dto.hubspot.OAuthTokenResponse;
 import br.com.marques.kontaktapi.domain.dto.user.LoginRequest;
@@ -10,27 +12,50 @@ import br.com.marques.kontaktapi.service.gateway.ContactServiceGateway;
 import br.com.marques.kontaktapi.service.gateway.OAuthServiceGateway;
 import br.com.marques.kontaktapi.domain.dto.contact.ContactRequest;
 import br.com.marques.kontaktapi.domain.entity.User;
+import br.com.marques.kontaktapi.service.contact.ContactListCache;
+import br.com.marques.kontaktapi.config.resilience.DistributedRateLimiter;
+import br.com.marques.kontaktapi.config.resilience.RateLimiterType;
 import br.com.marques.kontaktapi.config.resilience.Resilient;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ContactService implements ContactServiceGateway {
+    static final String CONTACTS_ENDPOINT = "/crm/v3/objects/contacts";
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_PERMIT_WAITS = 30;
+
     private final AuthenticationServiceGateway<User, LoginRequest, TokenResponse> authenticationService;
     private final OAuthServiceGateway<OAuthCallbackRequest, OAuthTokenResponse> oAuthService;
     private final HubspotApiHelper hubspotApiHelper;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final DistributedRateLimiter distributedRateLimiter;
+    private final ContactListCache contactListCache;
 
     @Override
-    @Resilient(rateLimiter = "hubspotRateLimiter", circuitBreaker = "CircuitBreaker")
+    @Resilient(rateLimiter = "hubspotRateLimiter", rateLimiterType = RateLimiterType.DISTRIBUTED, circuitBreaker = "CircuitBreaker")
     public void createContact(ContactRequest contactRequest) {
         User loggedUser = authenticationService.getAuthenticated();
         Long userId = loggedUser.getId();
@@ -49,11 +74,15 @@ public class ContactService implements ContactServiceGateway {
         );
 
         responseMono.block();
+        contactListCache.invalidateUser(userId);
         log.info("Contact created successfully for user {}", userId);
     }
 
+    /**
+     * Served through {@link ContactListCache}; only loads that start a HubSpot call take a
+     * {@code hubspotRateLimiter} permit, and they go through the circuit breaker.
+     */
     @Override
-    @Resilient(rateLimiter = "hubspotRateLimiter", circuitBreaker = "CircuitBreaker")
     public Mono<Map<String, Object>> listContacts() {
         User loggedUser = authenticationService.getAuthenticated();
         Long userId = loggedUser.getId();
@@ -62,15 +91,82 @@ public class ContactService implements ContactServiceGateway {
         if (Objects.isNull(accessToken) || accessToken.isEmpty())
             return Mono.error(new IllegalStateException("HubSpot access token not available for user " + userId));
 
-        return hubspotApiHelper.executeGetJsonCall(
-                        "/crm/v3/objects/contacts",
-                        new ParameterizedTypeReference<Map<String, Object>>() {},
-                        accessToken
-                )
+        RateLimiter rateLimiter = rateLimiterRegistry.rateLimiter("hubspotRateLimiter");
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("CircuitBreaker");
+        return contactListCache.get(userId, accessToken, CONTACTS_ENDPOINT, () -> withCircuitBreaker(circuitBreaker,
+                        () -> hubspotApiHelper.executeGetJsonCall(
+                                CONTACTS_ENDPOINT,
+                                new ParameterizedTypeReference<Map<String, Object>>() {},
+                                accessToken,
+                                permit(rateLimiter))))
                 .doOnSuccess(response -> log.info("Contacts listed successfully for user {}", userId))
                 .doOnError(e -> log.error("Error listing contacts for user {}: {}", userId, e.toString()));
     }
 
+    /**
+     * Follows {@code paging.next.after} page by page. Only one page is fetched ahead of
+     * the subscriber, and each page takes a {@code hubspotRateLimiter} permit, waiting a
+     * refresh period when none is left instead of failing the stream.
+     */
+    @Override
+    public Flux<HubspotContact> streamContacts(int pageSize) {
+        User loggedUser = authenticationService.getAuthenticated();
+        Long userId = loggedUser.getId();
+
+        String accessToken = oAuthService.getAccessTokenByUserId(userId);
+        if (Objects.isNull(accessToken) || accessToken.isEmpty())
+            return Flux.error(new IllegalStateException("HubSpot access token not available for user " + userId));
+
+        int limit = Math.clamp(pageSize, 1, MAX_PAGE_SIZE);
+        RateLimiter rateLimiter = rateLimiterRegistry.rateLimiter("hubspotRateLimiter");
+        return fetchContactPage(accessToken, limit, null, rateLimiter)
+                .expand(page -> page.nextAfter() == null
+                        ? Mono.empty()
+                        : fetchContactPage(accessToken, limit, page.nextAfter(), rateLimiter))
+                .concatMapIterable(page -> page.results() == null ? List.of() : page.results(), 1)
+                .doOnComplete(() -> log.info("Contacts streamed successfully for user {}", userId))
+                .doOnError(e -> log.error("Error streaming contacts for user {}: {}", userId, e.toString()));
+    }
+
+    private Mono<HubspotContactPage> fetchContactPage(String accessToken, int limit, String after, RateLimiter rateLimiter) {
+        String endpoint = CONTACTS_ENDPOINT + "?limit=" + limit
+                + (after == null ? "" : "&after=" + URLEncoder.encode(after, StandardCharsets.UTF_8));
+        return hubspotApiHelper.executeGetJsonCall(
+                endpoint,
+                new ParameterizedTypeReference<HubspotContactPage>() {},
+                accessToken,
+                permit(rateLimiter)
+                        .retryWhen(Retry.fixedDelay(MAX_PERMIT_WAITS, rateLimiter.getRateLimiterConfig().getLimitRefreshPeriod())
+                                .filter(RequestNotPermitted.class::isInstance)
+                                .onRetryExhaustedThrow((spec, signal) -> signal.failure())));
+    }
+
+    private Mono<RateLimiter> permit(RateLimiter rateLimiter) {
+        return Mono.defer(() -> distributedRateLimiter.acquirePermission(rateLimiter.getName())
+                ? Mono.just(rateLimiter)
+                : Mono.error(RequestNotPermitted.createRequestNotPermitted(rateLimiter)));
+    }
+
+    private static <T> Mono<T> withCircuitBreaker(CircuitBreaker circuitBreaker, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission())
+                return Mono.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+
+            long start = circuitBreaker.getCurrentTimestamp();
+            return call.get()
+                    .doOnSuccess(result -> circuitBreaker.onSuccess(
+                            circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit()))
+                    .doOnError(e -> {
+                        if (e instanceof RequestNotPermitted) {
+                            circuitBreaker.releasePermission();
+                        } else {
+                            circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e);
+                        }
+                    })
+                    .doOnCancel(circuitBreaker::releasePermission);
+        });
+    }
+
     public Map<String, Object> buildRequestBody(ContactRequest contactRequest) {
         Map<String, Object> requestBody = new HashMap<>();
         Map<String, String> properties = new HashMap<>();
@@ -1,16 +1,28 @@
 package br.com.marques.kontaktapi.service;
 
 import br.com.marques.kontaktapi.service.gateway.WebhookServiceGateway;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventCursor;
 import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import br.com.marques.kontaktapi.domain.dto.generic.CursorPage;
+import br.com.marques.kontaktapi.domain.dto.generic.SlicePage;
 import br.com.marques.kontaktapi.domain.entity.ContactCreationEventEntity;
 import br.com.marques.kontaktapi.config.resilience.Resilient;
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventPartitionRepository;
 import br.com.marques.kontaktapi.domain.repository.ContactCreationEventRepository;
+import br.com.marques.kontaktapi.service.webhook.WebhookEventLog;
+import br.com.marques.kontaktapi.service.webhook.WebhookEventWriter;
+import br.com.marques.kontaktapi.service.webhook.WebhookIngestionMode;
+import br.com.marques.kontaktapi.service.webhook.WebhookIngestionQueue;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -21,17 +33,34 @@ import java.util.List;
 public class HubspotWebhookService
         implements WebhookServiceGateway<ContactCreationEventEntity, ContactCreationEventRequest> {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+    static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "occurredAt", "id");
+
     private final ContactCreationEventRepository repository;
+    private final ContactCreationEventPartitionRepository partitionRepository;
+    private final WebhookEventWriter eventWriter;
+    private final ObjectProvider<WebhookIngestionQueue> ingestionQueue;
+    private final ObjectProvider<WebhookEventLog> eventLog;
+
+    @Value("${hubspot.webhook.ingestion.mode:sync}")
+    private WebhookIngestionMode ingestionMode;
 
     @Override
     public void process(List<ContactCreationEventRequest> events) {
         log.info("Processing contact creation events");
 
-        List<ContactCreationEventEntity> persistableEvents = events.stream()
-                .map(ContactCreationEventEntity::fromRequest)
-                .toList();
+        if (ingestionMode == WebhookIngestionMode.ASYNC) {
+            ingestionQueue.getObject().enqueue(events);
+            log.info("{} contact creation events queued for persistence", events.size());
+            return;
+        }
+        if (ingestionMode == WebhookIngestionMode.WAL) {
+            eventLog.getObject().append(events);
+            log.info("{} contact creation events appended to the write-ahead log", events.size());
+            return;
+        }
 
-        repository.saveAll(persistableEvents);
+        eventWriter.write(events);
 
         log.info("Contact creation events processed successfully");
     }
@@ -44,6 +73,37 @@ public class HubspotWebhookService
         return repository.findAll(pageable);
     }
 
+    @Override
+    public SlicePage<ContactCreationEventEntity> listEventsSlice(@PositiveOrZero Integer page,
+                                                                 @Positive Integer size,
+                                                                 boolean estimateTotal) {
+        Slice<ContactCreationEventEntity> slice = repository.findAllBy(PageRequest.of(page, size, NEWEST_FIRST));
+        Long estimatedTotal = estimateTotal ? partitionRepository.estimateRowCount() : null;
+        return new SlicePage<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), estimatedTotal);
+    }
+
+    @Override
+    public CursorPage<ContactCreationEventEntity> listEventsAfter(String cursor,
+                                                                  @Positive Integer size) {
+        if (size == null || size < 1) throw new IllegalArgumentException("Page size must be positive");
+
+        int limit = Math.min(size, MAX_CURSOR_PAGE_SIZE);
+        List<ContactCreationEventEntity> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = repository.findLatest(limit + 1);
+        } else {
+            ContactCreationEventCursor position = ContactCreationEventCursor.decode(cursor);
+            rows = repository.findOlderThan(position.occurredAt(), position.id(), limit + 1);
+        }
+
+        if (rows.size() <= limit) return new CursorPage<>(rows, rows.size(), null);
+
+        List<ContactCreationEventEntity> content = rows.subList(0, limit);
+        ContactCreationEventEntity last = content.get(limit - 1);
+        String nextCursor = new ContactCreationEventCursor(last.getOccurredAt(), last.getId()).encode();
+        return new CursorPage<>(content, limit, nextCursor);
+    }
+
     public Page<ContactCreationEventEntity> fallback(Integer page, Integer size, Throwable t) {
         log.warn("Hubspot API rate limit exceeded. Please try again later.");
         throw new RuntimeException("Hubspot API rate limit exceeded. Please try again later.", t);
@@ -0,0 +1,47 @@
+package br.com.marques.kontaktapi.service;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventCursor;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventFilter;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventView;
+import br.com.marques.kontaktapi.domain.dto.generic.CursorPage;
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventRepository;
+import br.com.marques.kontaktapi.service.gateway.WebhookQueryServiceGateway;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WebhookEventQueryService
+        implements WebhookQueryServiceGateway<ContactCreationEventView, ContactCreationEventFilter> {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final ContactCreationEventRepository repository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ContactCreationEventView> search(ContactCreationEventFilter filter,
+                                                       String cursor,
+                                                       Integer size) {
+        if (size == null || size < 1) throw new IllegalArgumentException("Page size must be positive");
+        ContactCreationEventFilter criteria = filter == null ? ContactCreationEventFilter.empty() : filter;
+
+        int limit = Math.min(size, MAX_PAGE_SIZE);
+        ContactCreationEventCursor after = cursor == null || cursor.isBlank()
+                ? null
+                : ContactCreationEventCursor.decode(cursor);
+        List<ContactCreationEventView> rows = repository.findViews(criteria, after, limit + 1);
+
+        if (rows.size() <= limit) return new CursorPage<>(rows, rows.size(), null);
+
+        List<ContactCreationEventView> content = rows.subList(0, limit);
+        ContactCreationEventView last = content.get(limit - 1);
+        String nextCursor = new ContactCreationEventCursor(last.occurredAt(), last.id()).encode();
+        return new CursorPage<>(content, limit, nextCursor);
+    }
+}
@@ -0,0 +1,211 @@
+package br.com.marques.kontaktapi.service.contact;
+
+import br.com.marques.kontaktapi.config.hubspot.HubspotApiHelper;
+import br.com.marques.kontaktapi.config.resilience.DistributedRateLimiter;
+import br.com.marques.kontaktapi.domain.dto.hubspot.HubspotBatchError;
+import br.com.marques.kontaktapi.domain.dto.hubspot.HubspotBatchResponse;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gathers contact creations per access token for up to {@code window-ms} or
+ * {@code max-batch-size} inputs and sends them as one HubSpot batch create, which costs a
+ * single rate-limiter permit. Each input carries its index as {@code objectWriteTraceId}
+ * so per-item errors are routed back to the right caller; a batch rejected as a whole
+ * with a 4xx is bisected so one bad input does not fail its neighbours.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "hubspot.contacts.batching.enabled", havingValue = "true")
+public class ContactCreateCoalescer {
+
+    static final String BATCH_CREATE_ENDPOINT = "/crm/v3/objects/contacts/batch/create";
+    static final String TRACE_ID = "objectWriteTraceId";
+    static final int HUBSPOT_MAX_BATCH = 100;
+    // Only these point at a bad item; auth failures and 429 would fail every half the same way.
+    static final Set<Integer> BISECTABLE_STATUSES = Set.of(400, 409, 422);
+
+    private final HubspotApiHelper hubspotApiHelper;
+    private final DistributedRateLimiter distributedRateLimiter;
+    private final RateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final Map<String, Batch> open = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("contact-coalescer").daemon().factory());
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final DistributionSummary batchSizes;
+    private final Counter splits;
+
+    public ContactCreateCoalescer(HubspotApiHelper hubspotApiHelper,
+                                  DistributedRateLimiter distributedRateLimiter,
+                                  RateLimiterRegistry rateLimiterRegistry,
+                                  CircuitBreakerRegistry circuitBreakerRegistry,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${hubspot.contacts.batching.window-ms:50}") long windowMs,
+                                  @Value("${hubspot.contacts.batching.max-batch-size:100}") int maxBatchSize) {
+        this.hubspotApiHelper = hubspotApiHelper;
+        this.distributedRateLimiter = distributedRateLimiter;
+        this.rateLimiter = rateLimiterRegistry.rateLimiter("hubspotRateLimiter");
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("CircuitBreaker");
+        this.windowMs = windowMs;
+        this.maxBatchSize = Math.clamp(maxBatchSize, 1, HUBSPOT_MAX_BATCH);
+        this.batchSizes = DistributionSummary.builder("hubspot.contacts.batch.size")
+                .description("Contacts sent per HubSpot batch create")
+                .register(meterRegistry);
+        this.splits = Counter.builder("hubspot.contacts.batch.splits")
+                .description("Batch creates rejected as a whole and retried in halves")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        timer.shutdownNow();
+        open.forEach((accessToken, batch) -> {
+            if (batch.seal()) send(accessToken, batch.items);
+        });
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS))
+            log.warn("Contact coalescer stopped with batches still in flight");
+    }
+
+    public CompletableFuture<Void> submit(String accessToken, Map<String, Object> input) {
+        Pending pending = new Pending(input, new CompletableFuture<>());
+        while (true) {
+            Batch batch = open.computeIfAbsent(accessToken, this::openBatch);
+            int size = batch.add(pending);
+            if (size < 0) {
+                open.remove(accessToken, batch);
+                continue;
+            }
+            if (size == maxBatchSize) {
+                open.remove(accessToken, batch);
+                send(accessToken, batch.items);
+            }
+            return pending.result;
+        }
+    }
+
+    private Batch openBatch(String accessToken) {
+        Batch batch = new Batch();
+        timer.schedule(() -> {
+            if (batch.seal()) {
+                open.remove(accessToken, batch);
+                send(accessToken, batch.items);
+            }
+        }, windowMs, TimeUnit.MILLISECONDS);
+        return batch;
+    }
+
+    private void send(String accessToken, List<Pending> items) {
+        executor.execute(() -> flush(accessToken, items));
+    }
+
+    void flush(String accessToken, List<Pending> items) {
+        batchSizes.record(items.size());
+        if (!distributedRateLimiter.acquirePermission(rateLimiter.getName())) {
+            RequestNotPermitted denied = RequestNotPermitted.createRequestNotPermitted(rateLimiter);
+            items.forEach(item -> item.result.completeExceptionally(denied));
+            return;
+        }
+
+        try {
+            HubspotBatchResponse response = circuitBreaker.executeSupplier(() -> hubspotApiHelper.executePostJsonCall(
+                    BATCH_CREATE_ENDPOINT, requestBody(items), HubspotBatchResponse.class, accessToken).block());
+            route(items, response);
+        } catch (WebClientResponseException e) {
+            if (BISECTABLE_STATUSES.contains(e.getStatusCode().value()) && items.size() > 1) {
+                splits.increment();
+                int half = items.size() / 2;
+                flush(accessToken, items.subList(0, half));
+                flush(accessToken, items.subList(half, items.size()));
+                return;
+            }
+            items.forEach(item -> item.result.completeExceptionally(e));
+        } catch (Exception e) {
+            items.forEach(item -> item.result.completeExceptionally(e));
+        }
+    }
+
+    private static Map<String, Object> requestBody(List<Pending> items) {
+        List<Map<String, Object>> inputs = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Map<String, Object> input = new HashMap<>(items.get(i).input);
+            input.put(TRACE_ID, String.valueOf(i));
+            inputs.add(input);
+        }
+        return Map.of("inputs", inputs);
+    }
+
+    private static void route(List<Pending> items, HubspotBatchResponse response) {
+        if (response != null && response.errors() != null) {
+            for (HubspotBatchError error : response.errors()) {
+                List<String> traceIds = error.context() == null ? null : error.context().get(TRACE_ID);
+                if (traceIds == null || traceIds.isEmpty()) {
+                    log.warn("HubSpot batch create reported an error without a trace id: {}", error.message());
+                    continue;
+                }
+                IllegalStateException failure = new IllegalStateException("HubSpot rejected contact: " + error.message());
+                for (String traceId : traceIds) {
+                    int index = parseIndex(traceId);
+                    if (index >= 0 && index < items.size()) items.get(index).result.completeExceptionally(failure);
+                }
+            }
+        }
+        items.forEach(item -> item.result.complete(null));
+    }
+
+    private static int parseIndex(String traceId) {
+        try {
+            return Integer.parseInt(traceId);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    record Pending(Map<String, Object> input, CompletableFuture<Void> result) {
+    }
+
+    private final class Batch {
+        private final List<Pending> items = new ArrayList<>();
+        private boolean sealed;
+
+        private synchronized int add(Pending pending) {
+            if (sealed) return -1;
+            items.add(pending);
+            if (items.size() == maxBatchSize) sealed = true;
+            return items.size();
+        }
+
+        private synchronized boolean seal() {
+            if (sealed) return false;
+            sealed = true;
+            return true;
+        }
+    }
+}
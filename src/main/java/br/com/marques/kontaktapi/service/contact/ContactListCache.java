@@ -0,0 +1,167 @@
+package br.com.marques.kontaktapi.service.contact;
+
+import br.com.marques.kontaktapi.config.hubspot.HubspotApiHelper;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import br.com.marques.kontaktapi.service.webhook.WebhookEventHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of HubSpot contact listings per user and query. Entries younger than
+ * {@code fresh-ttl-ms} are served as is; up to {@code stale-ttl-ms} they are served while
+ * one background load refreshes them; older entries, and the least recently used ones
+ * beyond {@code max-entries}, are evicted. Local creations invalidate the creating user
+ * and webhook contact events invalidate every user of the event's portal, learned once
+ * per user from HubSpot's access-token metadata. Users whose portal is not known yet are
+ * invalidated by any event.
+ */
+@Slf4j
+@Component
+public class ContactListCache implements WebhookEventHandler {
+
+    private final HubspotApiHelper hubspotApiHelper;
+    private final Clock clock;
+    private final long freshTtlMs;
+    private final long staleTtlMs;
+    private final Map<Key, Cached> entries;
+    private final Map<Key, Mono<Map<String, Object>>> loading = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> portalByUser = new ConcurrentHashMap<>();
+    private final Set<Long> resolvingPortal = ConcurrentHashMap.newKeySet();
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+
+    @Autowired
+    public ContactListCache(HubspotApiHelper hubspotApiHelper,
+                            MeterRegistry meterRegistry,
+                            @Value("${hubspot.contacts.cache.fresh-ttl-ms:30000}") long freshTtlMs,
+                            @Value("${hubspot.contacts.cache.stale-ttl-ms:300000}") long staleTtlMs,
+                            @Value("${hubspot.contacts.cache.max-entries:10000}") int maxEntries) {
+        this(hubspotApiHelper, meterRegistry, Clock.systemUTC(), freshTtlMs, staleTtlMs, maxEntries);
+    }
+
+    ContactListCache(HubspotApiHelper hubspotApiHelper,
+                     MeterRegistry meterRegistry,
+                     Clock clock,
+                     long freshTtlMs,
+                     long staleTtlMs,
+                     int maxEntries) {
+        this.hubspotApiHelper = hubspotApiHelper;
+        this.clock = clock;
+        this.freshTtlMs = freshTtlMs;
+        this.staleTtlMs = Math.max(staleTtlMs, freshTtlMs);
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Cached> eldest) {
+                return size() > maxEntries || isExpired(eldest.getValue());
+            }
+        });
+        this.hits = cacheCounter(meterRegistry, "fresh");
+        this.staleHits = cacheCounter(meterRegistry, "stale");
+        this.misses = cacheCounter(meterRegistry, "miss");
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("hubspot.contacts.cache.requests")
+                .description("Contact listings answered by the cache, by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public Mono<Map<String, Object>> get(Long userId, String accessToken, String query,
+                                         Supplier<Mono<Map<String, Object>>> loader) {
+        Key key = new Key(userId, query);
+        Cached cached = entries.get(key);
+        if (cached != null && !isExpired(cached)) {
+            if (clock.millis() - cached.loadedAt() <= freshTtlMs) {
+                hits.increment();
+            } else {
+                staleHits.increment();
+                load(key, loader).subscribe(value -> {}, e -> log.warn("Background refresh of contacts for user {} failed: {}", userId, e.toString()));
+            }
+            return Mono.just(cached.value());
+        }
+
+        misses.increment();
+        resolvePortal(userId, accessToken);
+        return load(key, loader);
+    }
+
+    public void invalidateUser(Long userId) {
+        versions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.userId().equals(userId));
+        }
+        loading.keySet().removeIf(key -> key.userId().equals(userId));
+    }
+
+    public void invalidatePortal(Long portalId) {
+        Set<Long> users = ConcurrentHashMap.newKeySet();
+        synchronized (entries) {
+            for (Key key : entries.keySet()) {
+                Long portal = portalByUser.get(key.userId());
+                if (portal == null || portal.equals(portalId)) users.add(key.userId());
+            }
+        }
+        users.forEach(this::invalidateUser);
+    }
+
+    @Override
+    public void handle(ContactCreationEventRequest event) {
+        if (event.portalId() != null) invalidatePortal(event.portalId());
+    }
+
+    private Mono<Map<String, Object>> load(Key key, Supplier<Mono<Map<String, Object>>> loader) {
+        return loading.computeIfAbsent(key, k -> {
+            long version = versionOf(k.userId());
+            AtomicReference<Mono<Map<String, Object>>> flight = new AtomicReference<>();
+            flight.set(Mono.defer(loader)
+                    .doOnNext(value -> {
+                        if (versionOf(k.userId()) == version) entries.put(k, new Cached(value, clock.millis()));
+                    })
+                    .doFinally(signal -> loading.remove(k, flight.get()))
+                    .cache());
+            return flight.get();
+        });
+    }
+
+    private long versionOf(Long userId) {
+        AtomicLong version = versions.get(userId);
+        return version == null ? 0 : version.get();
+    }
+
+    private boolean isExpired(Cached cached) {
+        return clock.millis() - cached.loadedAt() > staleTtlMs;
+    }
+
+    private void resolvePortal(Long userId, String accessToken) {
+        if (portalByUser.containsKey(userId) || !resolvingPortal.add(userId)) return;
+        hubspotApiHelper.fetchAccessTokenInfo(accessToken)
+                .doFinally(signal -> resolvingPortal.remove(userId))
+                .subscribe(info -> {
+                    if (info.get("hub_id") instanceof Number hubId) portalByUser.put(userId, hubId.longValue());
+                }, e -> log.warn("Could not resolve HubSpot portal for user {}: {}", userId, e.getMessage()));
+    }
+
+    record Key(Long userId, String query) {
+    }
+
+    private record Cached(Map<String, Object> value, long loadedAt) {
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.marques.kontaktapi.service.gateway;
 
 import br.com.marques.kontaktapi.domain.dto.contact.ContactRequest;
+import br.com.marques.kontaktapi.domain.dto.hubspot.HubspotContact;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -8,5 +10,6 @@ import java.util.Map;
 public interface ContactServiceGateway {
     void createContact(ContactRequest contactRequest);
     Mono<Map<String, Object>> listContacts();
+    Flux<HubspotContact> streamContacts(int pageSize);
 
 }
@@ -0,0 +1,9 @@
+package br.com.marques.kontaktapi.service.gateway;
+
+import br.com.marques.kontaktapi.domain.dto.generic.CursorPage;
+
+public interface WebhookQueryServiceGateway<View, Filter> {
+    CursorPage<View> search(Filter filter,
+                            String cursor,
+                            Integer size);
+}
@@ -1,5 +1,7 @@
 package br.com.marques.kontaktapi.service.gateway;
 
+import br.com.marques.kontaktapi.domain.dto.generic.CursorPage;
+import br.com.marques.kontaktapi.domain.dto.generic.SlicePage;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
@@ -8,4 +10,9 @@ public interface WebhookServiceGateway<Entity, Req> {
     void process(List<Req> events);
     Page<Entity> listEvents(Integer page,
                             Integer size);
+    SlicePage<Entity> listEventsSlice(Integer page,
+                                      Integer size,
+                                      boolean estimateTotal);
+    CursorPage<Entity> listEventsAfter(String cursor,
+                                       Integer size);
 }
@@ -0,0 +1,103 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Two-generation Bloom filter over HubSpot event ids. Once the active generation
+ * holds {@code expectedInsertions} ids it becomes the previous one, so memory stays
+ * bounded while recently seen ids keep answering {@code mightContain}.
+ */
+@Component
+public class EventIdBloomFilter {
+
+    private final int expectedInsertions;
+    private final int numBits;
+    private final int numHashes;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    public EventIdBloomFilter(@Value("${hubspot.webhook.dedup.expected-events:1000000}") int expectedInsertions,
+                              @Value("${hubspot.webhook.dedup.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedInsertions = expectedInsertions;
+        this.numBits = optimalNumBits(expectedInsertions, falsePositiveRate);
+        this.numHashes = optimalNumHashes(expectedInsertions, numBits);
+        this.current = new Generation(numBits);
+        this.previous = new Generation(numBits);
+    }
+
+    public boolean mightContain(long eventId) {
+        return current.mightContain(eventId) || previous.mightContain(eventId);
+    }
+
+    public void put(long eventId) {
+        Generation generation = current;
+        generation.put(eventId);
+        if (generation.count.incrementAndGet() >= expectedInsertions) rotate(generation);
+    }
+
+    private synchronized void rotate(Generation full) {
+        if (current != full) return;
+        previous = full;
+        current = new Generation(numBits);
+    }
+
+    private static int optimalNumBits(int expectedInsertions, double falsePositiveRate) {
+        long bits = (long) (-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        return (int) Math.max(64, Math.min(bits, Integer.MAX_VALUE - 63));
+    }
+
+    private static int optimalNumHashes(int expectedInsertions, int numBits) {
+        return Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private final class Generation {
+        private final AtomicLongArray bits;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private Generation(int numBits) {
+            this.bits = new AtomicLongArray((numBits + 63) >>> 6);
+        }
+
+        private boolean mightContain(long eventId) {
+            long h1 = mix(eventId);
+            long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L);
+            for (int i = 0; i < numHashes; i++) {
+                int bit = index(h1 + i * h2);
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+
+        private void put(long eventId) {
+            long h1 = mix(eventId);
+            long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L);
+            for (int i = 0; i < numHashes; i++) {
+                int bit = index(h1 + i * h2);
+                long mask = 1L << bit;
+                int word = bit >>> 6;
+                long value;
+                while (((value = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, value, value | mask)) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+
+        private int index(long hash) {
+            return (int) ((hash & Long.MAX_VALUE) % numBits);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventPartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static br.com.marques.kontaktapi.domain.repository.ContactCreationEventPartitionRepository.DEFAULT_PARTITION;
+import static br.com.marques.kontaktapi.domain.repository.ContactCreationEventPartitionRepository.PARENT_TABLE;
+
+@Slf4j
+@Component
+public class EventPartitionMaintenanceJob {
+
+    private static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final ContactCreationEventPartitionRepository partitionRepository;
+    private final Clock clock;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final PartitionRetentionAction retentionAction;
+
+    @Autowired
+    public EventPartitionMaintenanceJob(ContactCreationEventPartitionRepository partitionRepository,
+                                        @Value("${hubspot.webhook.partitions.premake-months:3}") int premakeMonths,
+                                        @Value("${hubspot.webhook.partitions.retention-months:12}") int retentionMonths,
+                                        @Value("${hubspot.webhook.partitions.retention-action:drop}") PartitionRetentionAction retentionAction) {
+        this(partitionRepository, Clock.systemDefaultZone(), premakeMonths, retentionMonths, retentionAction);
+    }
+
+    EventPartitionMaintenanceJob(ContactCreationEventPartitionRepository partitionRepository,
+                                 Clock clock,
+                                 int premakeMonths,
+                                 int retentionMonths,
+                                 PartitionRetentionAction retentionAction) {
+        this.partitionRepository = partitionRepository;
+        this.clock = clock;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.retentionAction = retentionAction;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${hubspot.webhook.partitions.maintenance-cron:0 0 3 * * *}")
+    public void maintainPartitions() {
+        try {
+            if (!partitionRepository.isPartitioned()) {
+                log.warn("Table {} is not partitioned; skipping partition maintenance", PARENT_TABLE);
+                return;
+            }
+
+            Set<String> existing = new HashSet<>(partitionRepository.findPartitionNames());
+            YearMonth current = YearMonth.now(clock);
+            createUpcomingPartitions(current, existing);
+            expirePartitions(current, existing);
+        } catch (Exception e) {
+            log.error("Error maintaining partitions of {}: {}", PARENT_TABLE, e.getMessage());
+        }
+    }
+
+    private void createUpcomingPartitions(YearMonth current, Set<String> existing) {
+        for (int offset = 0; offset <= premakeMonths; offset++) {
+            YearMonth month = current.plusMonths(offset);
+            String partitionName = partitionName(month);
+            if (existing.contains(partitionName)) continue;
+
+            partitionRepository.createPartition(partitionName, month.atDay(1), month.plusMonths(1).atDay(1));
+            log.info("Created partition {}", partitionName);
+        }
+    }
+
+    private void expirePartitions(YearMonth current, Set<String> existing) {
+        if (retentionMonths <= 0) return;
+
+        YearMonth oldestRetained = current.minusMonths(retentionMonths);
+        for (String partitionName : existing) {
+            YearMonth month = partitionMonth(partitionName);
+            if (month == null || !month.isBefore(oldestRetained)) continue;
+
+            partitionRepository.detachPartition(partitionName);
+            if (retentionAction == PartitionRetentionAction.DROP) partitionRepository.dropPartition(partitionName);
+            log.info("Expired partition {} ({})", partitionName, retentionAction);
+        }
+
+        if (!existing.contains(DEFAULT_PARTITION)) return;
+        int expired = retentionAction == PartitionRetentionAction.DROP
+                ? partitionRepository.deleteDefaultPartitionRowsBefore(oldestRetained.atDay(1))
+                : partitionRepository.archiveDefaultPartitionRowsBefore(oldestRetained.atDay(1));
+        if (expired > 0) log.info("Expired {} rows from {} ({})", expired, DEFAULT_PARTITION, retentionAction);
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    static YearMonth partitionMonth(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_PREFIX)) return null;
+        try {
+            return YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import br.com.marques.kontaktapi.domain.dto.contact.EventRollupBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-portal event counters and distinct-object HyperLogLogs kept in Redis for every
+ * minute, hour and day bucket (UTC). Reads cost one GET and one PFCOUNT per bucket.
+ */
+@Slf4j
+@Service
+public class EventRollupStore {
+
+    static final String KEY_PREFIX = "rollup:contact-events:";
+    static final int MAX_BUCKETS = 1440;
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final Counter failures;
+
+    public EventRollupStore(StringRedisTemplate redisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${hubspot.webhook.rollups.enabled:true}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.failures = Counter.builder("webhook.rollups.failures")
+                .description("Rollup updates that could not be written to Redis")
+                .register(meterRegistry);
+    }
+
+    public void recordAfterCommit(List<ContactCreationEventRequest> events) {
+        if (!enabled || events.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(events);
+            }
+        });
+    }
+
+    void record(List<ContactCreationEventRequest> events) {
+        Map<String, Long> counts = new HashMap<>();
+        Map<String, Set<String>> objects = new HashMap<>();
+        Map<String, Long> ttls = new HashMap<>();
+
+        for (ContactCreationEventRequest event : events) {
+            if (event.portalId() == null || event.occurredAt() == null) continue;
+            LocalDateTime occurredAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(event.occurredAt()), ZoneOffset.UTC);
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                String bucket = bucketSuffix(event.portalId(), granularity, granularity.bucketStart(occurredAt));
+                String countKey = countKey(bucket);
+                counts.merge(countKey, 1L, Long::sum);
+                ttls.putIfAbsent(countKey, granularity.retention().toSeconds());
+                if (event.objectId() != null) {
+                    String objectsKey = objectsKey(bucket);
+                    objects.computeIfAbsent(objectsKey, k -> new LinkedHashSet<>()).add(event.objectId().toString());
+                    ttls.putIfAbsent(objectsKey, granularity.retention().toSeconds());
+                }
+            }
+        }
+        if (counts.isEmpty()) return;
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                counts.forEach(redis::incrBy);
+                objects.forEach((key, ids) -> redis.pfAdd(key, ids.toArray(String[]::new)));
+                ttls.forEach(redis::expire);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Failed to update event rollups for {} events: {}", events.size(), e.getMessage());
+        }
+    }
+
+    public List<EventRollupBucket> read(Long portalId,
+                                        RollupGranularity granularity,
+                                        LocalDateTime from,
+                                        LocalDateTime to) {
+        if (portalId == null) throw new IllegalArgumentException("portalId is required");
+        if (!from.isBefore(to)) throw new IllegalArgumentException("from must be before to");
+
+        List<LocalDateTime> buckets = new ArrayList<>();
+        for (LocalDateTime bucket = granularity.bucketStart(from); bucket.isBefore(to); bucket = granularity.next(bucket)) {
+            if (buckets.size() == MAX_BUCKETS)
+                throw new IllegalArgumentException("Range spans more than " + MAX_BUCKETS + " buckets");
+            buckets.add(bucket);
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (LocalDateTime bucket : buckets) {
+                String suffix = bucketSuffix(portalId, granularity, bucket);
+                redis.get(countKey(suffix));
+                redis.pfCount(objectsKey(suffix));
+            }
+            return null;
+        });
+
+        List<EventRollupBucket> rollups = new ArrayList<>(buckets.size());
+        for (int i = 0; i < buckets.size(); i++) {
+            Object count = results.get(2 * i);
+            Object distinct = results.get(2 * i + 1);
+            rollups.add(new EventRollupBucket(buckets.get(i),
+                    count == null ? 0 : Long.parseLong(count.toString()),
+                    distinct == null ? 0 : ((Number) distinct).longValue()));
+        }
+        return rollups;
+    }
+
+    private static String bucketSuffix(Long portalId, RollupGranularity granularity, LocalDateTime bucketStart) {
+        return portalId + ":" + granularity.name().toLowerCase(Locale.ROOT) + ":" + granularity.bucketKey(bucketStart);
+    }
+
+    private static String countKey(String suffix) {
+        return KEY_PREFIX + "count:" + suffix;
+    }
+
+    private static String objectsKey(String suffix) {
+        return KEY_PREFIX + "objects:" + suffix;
+    }
+}
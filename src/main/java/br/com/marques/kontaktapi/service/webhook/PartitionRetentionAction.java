@@ -0,0 +1,6 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+public enum PartitionRetentionAction {
+    DETACH,
+    DROP;
+}
@@ -0,0 +1,47 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+public enum RollupGranularity {
+    MINUTE(ChronoUnit.MINUTES, "yyyyMMddHHmm", Duration.ofDays(2)),
+    HOUR(ChronoUnit.HOURS, "yyyyMMddHH", Duration.ofDays(35)),
+    DAY(ChronoUnit.DAYS, "yyyyMMdd", Duration.ofDays(400));
+
+    private final ChronoUnit unit;
+    private final DateTimeFormatter keyFormat;
+    private final Duration retention;
+
+    RollupGranularity(ChronoUnit unit, String keyPattern, Duration retention) {
+        this.unit = unit;
+        this.keyFormat = DateTimeFormatter.ofPattern(keyPattern);
+        this.retention = retention;
+    }
+
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+
+    public String bucketKey(LocalDateTime bucketStart) {
+        return keyFormat.format(bucketStart);
+    }
+
+    public Duration retention() {
+        return retention;
+    }
+
+    public static RollupGranularity from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Unsupported rollup granularity: " + value);
+        }
+    }
+}
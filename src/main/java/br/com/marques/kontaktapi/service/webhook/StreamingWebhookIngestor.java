@@ -0,0 +1,188 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.config.hubspot.HubspotSignatureVerifier;
+import br.com.marques.kontaktapi.config.hubspot.MacInputStream;
+import br.com.marques.kontaktapi.config.hubspot.WebhookReplayGuard;
+import br.com.marques.kontaktapi.controller.exception.GenericException;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import br.com.marques.kontaktapi.domain.entity.ContactCreationEventEntity;
+import br.com.marques.kontaktapi.service.gateway.WebhookServiceGateway;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Mac;
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static br.com.marques.kontaktapi.config.hubspot.HmacValidationAspect.HOST;
+import static br.com.marques.kontaktapi.config.hubspot.HmacValidationAspect.X_HUB_SPOT_REQUEST_TIMESTAMP;
+import static br.com.marques.kontaktapi.config.hubspot.HmacValidationAspect.X_HUB_SPOT_SIGNATURE_V_3;
+
+/**
+ * Parses a webhook delivery straight off the request stream while feeding the same
+ * bytes to the HMAC. The signature is only known once the body ends, so parsed events
+ * are spooled to a per-request temp file and only handed to
+ * {@link WebhookServiceGateway#process} (and so to the configured ingestion mode) once
+ * it matches. Nothing touches the database while the body is still arriving. Stale
+ * timestamps are rejected before the body is read and replayed signatures once it is
+ * verified, as {@code HmacVerificationFilter} does for the buffered endpoint.
+ */
+@Slf4j
+@Service
+public class StreamingWebhookIngestor {
+
+    private final ObjectMapper objectMapper;
+    private final HubspotSignatureVerifier signatureVerifier;
+    private final WebhookReplayGuard replayGuard;
+    private final WebhookServiceGateway<ContactCreationEventEntity, ContactCreationEventRequest> webhookService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long maxBytes;
+    private final long maxDurationNanos;
+
+    public StreamingWebhookIngestor(ObjectMapper objectMapper,
+                                    HubspotSignatureVerifier signatureVerifier,
+                                    WebhookReplayGuard replayGuard,
+                                    WebhookServiceGateway<ContactCreationEventEntity, ContactCreationEventRequest> webhookService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${hubspot.webhook.streaming.chunk-size:500}") int chunkSize,
+                                    @Value("${hubspot.webhook.streaming.max-bytes:16777216}") long maxBytes,
+                                    @Value("${hubspot.webhook.streaming.max-duration-ms:30000}") long maxDurationMs,
+                                    @Value("${hubspot.webhook.streaming.statement-timeout-seconds:30}") int statementTimeoutSeconds) {
+        this.objectMapper = objectMapper;
+        this.signatureVerifier = signatureVerifier;
+        this.replayGuard = replayGuard;
+        this.webhookService = webhookService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout(statementTimeoutSeconds);
+        this.chunkSize = chunkSize;
+        this.maxBytes = maxBytes;
+        this.maxDurationNanos = maxDurationMs * 1_000_000;
+    }
+
+    public int ingest(HttpServletRequest request) throws IOException {
+        String timestamp = request.getHeader(X_HUB_SPOT_REQUEST_TIMESTAMP);
+        if (!replayGuard.isFresh(timestamp)) {
+            log.warn("Rejecting streamed webhook with stale timestamp {}", timestamp);
+            throw new GenericException("Stale webhook timestamp", HttpStatus.UNAUTHORIZED);
+        }
+
+        Mac mac = signatureVerifier.begin(request.getMethod(), request.getHeader(HOST), request.getRequestURI());
+
+        Path spool = Files.createTempFile("webhook-stream-", ".ndjson");
+        try {
+            int received = spool(request, mac, spool);
+
+            String signature = request.getHeader(X_HUB_SPOT_SIGNATURE_V_3);
+            if (!signatureVerifier.matches(mac, timestamp, signature)) {
+                log.error("HMAC validation failed for streamed webhook with {} events", received);
+                throw new GenericException("Invalid Signature", HttpStatus.UNAUTHORIZED);
+            }
+            if (!replayGuard.firstDelivery(signature, timestamp)) {
+                log.warn("Rejecting replayed streamed webhook signature {}", signature);
+                throw new GenericException("Webhook already delivered", HttpStatus.CONFLICT);
+            }
+
+            transactionTemplate.executeWithoutResult(status -> publish(spool));
+            log.info("Streamed {} contact creation events", received);
+            return received;
+        } finally {
+            Files.deleteIfExists(spool);
+        }
+    }
+
+    private int spool(HttpServletRequest request, Mac mac, Path spool) throws IOException {
+        int received = 0;
+        try (InputStream body = new MacInputStream(
+                     new BoundedInputStream(request.getInputStream(), maxBytes, System.nanoTime() + maxDurationNanos), mac);
+             JsonParser parser = objectMapper.createParser(body);
+             OutputStream out = new BufferedOutputStream(Files.newOutputStream(spool));
+             SequenceWriter writer = objectMapper.writerFor(ContactCreationEventRequest.class)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY)
+                throw new IllegalArgumentException("Webhook body must be a JSON array");
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                writer.write(parser.readValueAs(ContactCreationEventRequest.class));
+                received++;
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY)
+                throw new IllegalArgumentException("Webhook body must be a JSON array of events");
+
+            body.transferTo(OutputStream.nullOutputStream());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed webhook body: " + e.getOriginalMessage());
+        }
+        return received;
+    }
+
+    private void publish(Path spool) {
+        try (MappingIterator<ContactCreationEventRequest> events =
+                     objectMapper.readerFor(ContactCreationEventRequest.class).readValues(spool.toFile())) {
+            List<ContactCreationEventRequest> chunk = new ArrayList<>(chunkSize);
+            while (events.hasNextValue()) {
+                chunk.add(events.nextValue());
+                if (chunk.size() == chunkSize) {
+                    webhookService.process(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) webhookService.process(chunk);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read spooled webhook events", e);
+        }
+    }
+
+    private static final class BoundedInputStream extends FilterInputStream {
+        private final long maxBytes;
+        private final long deadlineNanos;
+        private long read;
+
+        private BoundedInputStream(InputStream in, long maxBytes, long deadlineNanos) {
+            super(in);
+            this.maxBytes = maxBytes;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) count(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count(n);
+            return n;
+        }
+
+        private void count(int n) {
+            read += n;
+            if (read > maxBytes)
+                throw new GenericException("Webhook body exceeds " + maxBytes + " bytes", HttpStatus.PAYLOAD_TOO_LARGE);
+            if (System.nanoTime() - deadlineNanos > 0)
+                throw new GenericException("Webhook body took too long to arrive", HttpStatus.REQUEST_TIMEOUT);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+public enum WalSyncPolicy {
+    ALWAYS,
+    INTERVAL,
+    NEVER;
+}
@@ -0,0 +1,104 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides whether a webhook delivery is accepted, based on how many are already in
+ * flight and on an exponentially weighted average of recent write latency. While the
+ * database is slow one delivery is still let through at a time so the average can recover.
+ */
+@Component
+public class WebhookAdmissionController {
+
+    private static final double LATENCY_WEIGHT = 0.2;
+
+    public enum Decision {
+        ADMITTED(HttpStatus.OK),
+        TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS),
+        OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE);
+
+        private final HttpStatus status;
+
+        Decision(HttpStatus status) {
+            this.status = status;
+        }
+
+        public HttpStatus status() {
+            return status;
+        }
+    }
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int maxInFlight;
+    private final double maxWriteLatencyMs;
+    private final boolean latencyShedding;
+    private final Counter tooManyRequests;
+    private final Counter overloaded;
+
+    private double writeLatencyMs;
+
+    public WebhookAdmissionController(MeterRegistry meterRegistry,
+                                      @Value("${hubspot.webhook.admission.max-in-flight:64}") int maxInFlight,
+                                      @Value("${hubspot.webhook.admission.max-write-latency-ms:500}") double maxWriteLatencyMs,
+                                      @Value("${hubspot.webhook.ingestion.mode:sync}") WebhookIngestionMode ingestionMode) {
+        this.maxInFlight = maxInFlight;
+        this.maxWriteLatencyMs = maxWriteLatencyMs;
+        this.latencyShedding = ingestionMode != WebhookIngestionMode.WAL;
+
+        Gauge.builder("webhook.admission.in-flight", inFlight, AtomicInteger::get)
+                .description("Webhook deliveries currently being handled")
+                .register(meterRegistry);
+        Gauge.builder("webhook.admission.write-latency", this, WebhookAdmissionController::writeLatencyMs)
+                .description("Weighted average of recent webhook write latency")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.tooManyRequests = Counter.builder("webhook.admission.rejected")
+                .tag("reason", "in-flight")
+                .description("Webhook deliveries shed before being handled")
+                .register(meterRegistry);
+        this.overloaded = Counter.builder("webhook.admission.rejected")
+                .tag("reason", "write-latency")
+                .description("Webhook deliveries shed before being handled")
+                .register(meterRegistry);
+    }
+
+    public Decision tryAcquire() {
+        int current = inFlight.incrementAndGet();
+        if (current > maxInFlight) {
+            inFlight.decrementAndGet();
+            tooManyRequests.increment();
+            return Decision.TOO_MANY_REQUESTS;
+        }
+        if (latencyShedding && current > 1 && writeLatencyMs() > maxWriteLatencyMs) {
+            inFlight.decrementAndGet();
+            overloaded.increment();
+            return Decision.OVERLOADED;
+        }
+        return Decision.ADMITTED;
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public synchronized void recordWriteLatency(long nanos) {
+        double sampleMs = nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        writeLatencyMs = writeLatencyMs == 0 ? sampleMs : writeLatencyMs + LATENCY_WEIGHT * (sampleMs - writeLatencyMs);
+    }
+
+    public synchronized double writeLatencyMs() {
+        return writeLatencyMs;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
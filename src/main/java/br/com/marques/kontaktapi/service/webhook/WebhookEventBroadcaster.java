@@ -0,0 +1,152 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.controller.exception.GenericException;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes persisted events to Server-Sent Events subscribers. Each subscriber owns a
+ * bounded buffer drained by its own virtual thread; handing an event over is a
+ * non-blocking offer, and a subscriber whose buffer is full is disconnected so a slow
+ * client never holds up ingestion.
+ */
+@Slf4j
+@Component
+public class WebhookEventBroadcaster implements WebhookEventHandler {
+
+    static final String EVENT_NAME = "contact.creation";
+
+    private static final ContactCreationEventRequest WAKE_UP =
+            new ContactCreationEventRequest(null, null, null, null, null, null, null, null, null, null);
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final int bufferSize;
+    private final Semaphore slots;
+    private final long timeoutMs;
+    private final long heartbeatMs;
+    private final Counter droppedCounter;
+
+    public WebhookEventBroadcaster(MeterRegistry meterRegistry,
+                                   @Value("${hubspot.webhook.sse.buffer-size:256}") int bufferSize,
+                                   @Value("${hubspot.webhook.sse.max-subscribers:100}") int maxSubscribers,
+                                   @Value("${hubspot.webhook.sse.timeout-ms:1800000}") long timeoutMs,
+                                   @Value("${hubspot.webhook.sse.heartbeat-ms:15000}") long heartbeatMs) {
+        this.bufferSize = bufferSize;
+        this.slots = new Semaphore(maxSubscribers);
+        this.timeoutMs = timeoutMs;
+        this.heartbeatMs = heartbeatMs;
+
+        Gauge.builder("webhook.sse.subscribers", subscribers, Set::size)
+                .description("Open webhook event streams")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("webhook.sse.dropped")
+                .description("Event stream subscribers disconnected for falling behind")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long portalId) {
+        return register(portalId, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter register(Long portalId, SseEmitter emitter) {
+        if (!slots.tryAcquire())
+            throw new GenericException("Too many event stream subscribers", HttpStatus.SERVICE_UNAVAILABLE);
+
+        Subscriber subscriber = new Subscriber(portalId, emitter);
+        subscribers.add(subscriber);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        Thread.ofVirtual().name("webhook-sse-subscriber").start(subscriber);
+        log.debug("Event stream subscriber registered (portalId={})", portalId);
+        return emitter;
+    }
+
+    @Override
+    public void handle(ContactCreationEventRequest event) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.accepts(event) || subscriber.offer(event)) continue;
+
+            droppedCounter.increment();
+            log.warn("Dropping event stream subscriber (portalId={}) after its buffer of {} filled up",
+                    subscriber.portalId, bufferSize);
+            subscriber.drop();
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private final class Subscriber implements Runnable {
+        private final Long portalId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<ContactCreationEventRequest> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private volatile boolean open = true;
+
+        private Subscriber(Long portalId, SseEmitter emitter) {
+            this.portalId = portalId;
+            this.emitter = emitter;
+        }
+
+        boolean accepts(ContactCreationEventRequest event) {
+            return open && (portalId == null || portalId.equals(event.portalId()));
+        }
+
+        boolean offer(ContactCreationEventRequest event) {
+            return buffer.offer(event);
+        }
+
+        void close() {
+            open = false;
+            if (subscribers.remove(this)) slots.release();
+        }
+
+        void drop() {
+            close();
+            buffer.clear();
+            buffer.offer(WAKE_UP);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (open) {
+                    ContactCreationEventRequest event = buffer.poll(heartbeatMs, TimeUnit.MILLISECONDS);
+                    if (!open) break;
+                    if (event == null) {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(event.eventId()))
+                                .name(EVENT_NAME)
+                                .data(event, MediaType.APPLICATION_JSON));
+                    }
+                }
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Event stream subscriber disconnected: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans persisted events out to {@link WebhookEventHandler}s. Events are hashed by
+ * objectId (portalId as a fallback) onto a fixed set of serial lanes; a lane drains on
+ * a virtual thread while it has work, so lanes run concurrently and each key stays ordered.
+ * Each lane holds at most {@code lane-capacity} events; beyond that new events for the
+ * lane are shed and counted, so a stuck handler cannot grow the heap without bound.
+ */
+@Slf4j
+@Component
+public class WebhookEventDispatcher {
+
+    private final List<WebhookEventHandler> handlers;
+    private final Lane[] lanes;
+    private final int laneCapacity;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter failures;
+    private final Counter shed;
+
+    public WebhookEventDispatcher(List<WebhookEventHandler> handlers,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${hubspot.webhook.dispatch.lanes:256}") int laneCount,
+                                  @Value("${hubspot.webhook.dispatch.lane-capacity:1024}") int laneCapacity) {
+        this.handlers = List.copyOf(handlers);
+        this.laneCapacity = laneCapacity;
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) lanes[i] = new Lane();
+
+        Gauge.builder("webhook.dispatch.pending", pending, AtomicLong::get)
+                .description("Persisted webhook events waiting for their handlers")
+                .register(meterRegistry);
+        this.failures = Counter.builder("webhook.dispatch.failures")
+                .description("Webhook event handler invocations that threw")
+                .register(meterRegistry);
+        this.shed = Counter.builder("webhook.dispatch.shed")
+                .description("Webhook events dropped because their dispatch lane was full")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS))
+            log.warn("Webhook event dispatcher stopped with {} events still pending", pending.get());
+    }
+
+    public void dispatchAfterCommit(List<ContactCreationEventRequest> events) {
+        if (handlers.isEmpty() || events.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(events);
+            }
+        });
+    }
+
+    public void dispatch(List<ContactCreationEventRequest> events) {
+        if (handlers.isEmpty()) return;
+        for (ContactCreationEventRequest event : events) {
+            int lane = laneOf(event);
+            pending.incrementAndGet();
+            if (lanes[lane].submit(event)) continue;
+
+            pending.decrementAndGet();
+            shed.increment();
+            log.warn("Shedding event {} after lane {} filled up with {} events",
+                    event.eventId(), lane, laneCapacity);
+        }
+    }
+
+    public long pending() {
+        return pending.get();
+    }
+
+    int laneOf(ContactCreationEventRequest event) {
+        Long key = event.objectId() != null ? event.objectId() : event.portalId();
+        return key == null ? 0 : Math.floorMod(Long.hashCode(key * 0x9E3779B97F4A7C15L), lanes.length);
+    }
+
+    private void handle(ContactCreationEventRequest event) {
+        try {
+            for (WebhookEventHandler handler : handlers) {
+                try {
+                    handler.handle(event);
+                } catch (Exception e) {
+                    failures.increment();
+                    log.warn("{} failed for event {}: {}", handler.getClass().getSimpleName(), event.eventId(), e.getMessage());
+                }
+            }
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    private final class Lane implements Runnable {
+        private final BlockingQueue<ContactCreationEventRequest> queue = new LinkedBlockingQueue<>(laneCapacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        boolean submit(ContactCreationEventRequest event) {
+            if (!queue.offer(event)) return false;
+            schedule();
+            return true;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) executor.execute(this);
+        }
+
+        @Override
+        public void run() {
+            ContactCreationEventRequest event;
+            while ((event = queue.poll()) != null) handle(event);
+            scheduled.set(false);
+            if (!queue.isEmpty()) schedule();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventFilter;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventView;
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams matching events out of a server-side cursor. Rows are projected, written and
+ * forgotten one at a time, so heap use does not grow with the size of the export.
+ */
+@Slf4j
+@Service
+public class WebhookEventExporter {
+
+    static final String CSV_HEADER = "id,eventId,subscriptionId,portalId,appId,occurredAt,"
+            + "subscriptionType,attemptNumber,objectId,changeFlag,changeSource";
+
+    private final ContactCreationEventRepository repository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public WebhookEventExporter(ContactCreationEventRepository repository,
+                                ObjectMapper objectMapper,
+                                @Value("${hubspot.webhook.export.fetch-size:1000}") int fetchSize) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    @Transactional(readOnly = true)
+    public long export(ContactCreationEventFilter filter,
+                       WebhookExportFormat format,
+                       boolean gzip,
+                       OutputStream out) throws IOException {
+        ContactCreationEventFilter criteria = filter == null ? ContactCreationEventFilter.empty() : filter;
+
+        long exported;
+        try (Stream<ContactCreationEventView> rows = repository.streamViews(criteria, fetchSize)) {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 8192) : out;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8));
+            exported = format == WebhookExportFormat.CSV
+                    ? writeCsv(rows.iterator(), writer)
+                    : writeNdjson(rows.iterator(), writer);
+            writer.flush();
+            if (target instanceof GZIPOutputStream gzipStream) gzipStream.finish();
+        }
+
+        log.info("Exported {} contact creation events as {}", exported, format);
+        return exported;
+    }
+
+    long writeNdjson(Iterator<ContactCreationEventView> rows, Writer writer) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (rows.hasNext()) {
+                objectMapper.writeValue(generator, rows.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    long writeCsv(Iterator<ContactCreationEventView> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long count = 0;
+        while (rows.hasNext()) {
+            ContactCreationEventView row = rows.next();
+            writer.write(String.valueOf(row.id()));
+            writeCsvField(writer, row.eventId());
+            writeCsvField(writer, row.subscriptionId());
+            writeCsvField(writer, row.portalId());
+            writeCsvField(writer, row.appId());
+            writeCsvField(writer, row.occurredAt());
+            writeCsvField(writer, row.subscriptionType());
+            writeCsvField(writer, row.attemptNumber());
+            writeCsvField(writer, row.objectId());
+            writeCsvField(writer, row.changeFlag());
+            writeCsvField(writer, row.changeSource());
+            writer.write('\n');
+            count++;
+        }
+        return count;
+    }
+
+    private static void writeCsvField(Writer writer, Object value) throws IOException {
+        writer.write(',');
+        if (value == null) return;
+
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
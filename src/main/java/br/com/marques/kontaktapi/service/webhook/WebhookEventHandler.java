@@ -0,0 +1,11 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+
+/**
+ * Per-event work that runs after a delivery is persisted. Events for the same object
+ * (or portal, when the object is unknown) reach a handler one at a time and in order.
+ */
+public interface WebhookEventHandler {
+    void handle(ContactCreationEventRequest event);
+}
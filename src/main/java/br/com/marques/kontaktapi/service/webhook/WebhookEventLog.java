@@ -0,0 +1,321 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.controller.exception.GenericException;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of accepted webhook deliveries, kept in fixed-size memory-mapped
+ * segments. A record is [length][crc32c][json batch] and its length is written last,
+ * so an append torn by a crash reads as the end of the log on recovery. The replayer
+ * commits a checkpoint past persisted records and segments behind it are deleted.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "hubspot.webhook.ingestion.mode", havingValue = "wal")
+public class WebhookEventLog {
+
+    static final String SEGMENT_SUFFIX = ".wal";
+    static final String CHECKPOINT_FILE = "checkpoint";
+    static final String DEAD_LETTER_FILE = "dead-letter.ndjson";
+    static final int HEADER_BYTES = 8;
+
+    private static final TypeReference<List<ContactCreationEventRequest>> BATCH_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int segmentBytes;
+    private final WalSyncPolicy syncPolicy;
+    private final Counter appendedCounter;
+
+    private FileChannel activeChannel;
+    private MappedByteBuffer activeBuffer;
+    private boolean dirty;
+    private volatile LogPosition tail;
+    private volatile LogPosition checkpoint;
+
+    public record LogPosition(long segment, int offset) implements Comparable<LogPosition> {
+        @Override
+        public int compareTo(LogPosition other) {
+            int bySegment = Long.compare(segment, other.segment);
+            return bySegment != 0 ? bySegment : Integer.compare(offset, other.offset);
+        }
+    }
+
+    /**
+     * A record read back from the log. Records that fail their checksum or cannot be
+     * parsed come back with no events and their raw bytes, so the replayer can set them
+     * aside and move past them.
+     */
+    public record Entry(List<ContactCreationEventRequest> events, LogPosition next, byte[] corruptPayload) {
+        public Entry(List<ContactCreationEventRequest> events, LogPosition next) {
+            this(events, next, null);
+        }
+
+        public boolean corrupt() {
+            return corruptPayload != null;
+        }
+    }
+
+    public WebhookEventLog(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${hubspot.webhook.wal.directory:./data/webhook-wal}") Path directory,
+                           @Value("${hubspot.webhook.wal.segment-bytes:67108864}") int segmentBytes,
+                           @Value("${hubspot.webhook.wal.sync-policy:interval}") WalSyncPolicy syncPolicy) {
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.syncPolicy = syncPolicy;
+        this.appendedCounter = Counter.builder("webhook.wal.appended")
+                .description("Webhook events appended to the local write-ahead log")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        Files.createDirectories(directory);
+        checkpoint = readCheckpoint();
+
+        List<Long> segments = listSegments();
+        for (long segment : segments) {
+            if (segment < checkpoint.segment()) Files.deleteIfExists(segmentPath(segment));
+        }
+        long active = segments.isEmpty() ? checkpoint.segment() : Math.max(segments.getLast(), checkpoint.segment());
+        mapSegment(active, segmentBytes);
+
+        int start = active == checkpoint.segment() ? checkpoint.offset() : 0;
+        int end = recoverTail(activeBuffer, start);
+        tail = new LogPosition(active, end);
+        log.info("Webhook event log opened at {} (checkpoint={}, tail={}, sync={})", directory, checkpoint, tail, syncPolicy);
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (activeChannel == null) return;
+        activeBuffer.force();
+        activeChannel.close();
+        activeChannel = null;
+    }
+
+    public void append(List<ContactCreationEventRequest> events) {
+        if (events.isEmpty()) return;
+        try {
+            byte[] payload = objectMapper.writeValueAsBytes(events);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            write(payload, (int) crc.getValue());
+            appendedCounter.increment(events.size());
+        } catch (IOException e) {
+            log.error("Failed to append {} webhook events to the write-ahead log: {}", events.size(), e.getMessage());
+            throw new GenericException("Webhook event log is unavailable", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    private synchronized void write(byte[] payload, int crc) throws IOException {
+        int recordBytes = HEADER_BYTES + payload.length;
+        if (tail.offset() + recordBytes > activeBuffer.capacity()) roll(recordBytes);
+
+        int offset = tail.offset();
+        activeBuffer.putInt(offset + 4, crc);
+        activeBuffer.put(offset + HEADER_BYTES, payload);
+        activeBuffer.putInt(offset, payload.length);
+        tail = new LogPosition(tail.segment(), offset + recordBytes);
+
+        if (syncPolicy == WalSyncPolicy.ALWAYS) activeBuffer.force();
+        else dirty = true;
+    }
+
+    @Scheduled(fixedDelayString = "${hubspot.webhook.wal.sync-interval-ms:100}")
+    public synchronized void sync() {
+        if (syncPolicy != WalSyncPolicy.INTERVAL || !dirty || activeChannel == null) return;
+        activeBuffer.force();
+        dirty = false;
+    }
+
+    public List<Entry> read(LogPosition from, int maxRecords) throws IOException {
+        LogPosition end = tail;
+        List<Entry> entries = new ArrayList<>();
+        LogPosition position = from;
+        FileChannel channel = null;
+        long channelSegment = -1;
+        try {
+            while (entries.size() < maxRecords && position.compareTo(end) < 0) {
+                if (channelSegment != position.segment()) {
+                    if (channel != null) channel.close();
+                    channel = FileChannel.open(segmentPath(position.segment()), StandardOpenOption.READ);
+                    channelSegment = position.segment();
+                }
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                int length = position.offset() + HEADER_BYTES <= channel.size()
+                        && channel.read(header, position.offset()) == HEADER_BYTES
+                        ? header.getInt(0) : 0;
+                if (length == 0) {
+                    if (position.segment() == end.segment()) break;
+                    position = new LogPosition(position.segment() + 1, 0);
+                    continue;
+                }
+
+                if (length < 0 || position.offset() + HEADER_BYTES + (long) length > channel.size()) {
+                    log.error("Corrupt webhook event log record length {} at {}; skipping the rest of the segment", length, position);
+                    position = position.segment() == end.segment() ? end : new LogPosition(position.segment() + 1, 0);
+                    entries.add(new Entry(List.of(), position, new byte[0]));
+                    continue;
+                }
+
+                ByteBuffer payload = ByteBuffer.allocate(length);
+                channel.read(payload, position.offset() + HEADER_BYTES);
+                LogPosition record = position;
+                position = new LogPosition(position.segment(), position.offset() + HEADER_BYTES + length);
+
+                CRC32C crc = new CRC32C();
+                crc.update(payload.array());
+                if ((int) crc.getValue() != header.getInt(4)) {
+                    log.error("Corrupt webhook event log record at {}: checksum mismatch", record);
+                    entries.add(new Entry(List.of(), position, payload.array()));
+                    continue;
+                }
+                try {
+                    entries.add(new Entry(objectMapper.readValue(payload.array(), BATCH_TYPE), position));
+                } catch (JsonProcessingException e) {
+                    log.error("Corrupt webhook event log record at {}: {}", record, e.getOriginalMessage());
+                    entries.add(new Entry(List.of(), position, payload.array()));
+                }
+            }
+        } finally {
+            if (channel != null) channel.close();
+        }
+        return entries;
+    }
+
+    /**
+     * Appends a record the replayer gave up on to {@code dead-letter.ndjson} next to the
+     * segments, with the reason and either its events or, for corrupt records, its raw
+     * bytes in base64.
+     */
+    public synchronized void deadLetter(Entry entry, String reason) throws IOException {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("next", entry.next().segment() + ":" + entry.next().offset());
+        line.put("reason", reason);
+        if (entry.corrupt()) line.put("payload", Base64.getEncoder().encodeToString(entry.corruptPayload()));
+        else line.put("events", entry.events());
+
+        byte[] bytes = (objectMapper.writeValueAsString(line) + "\n").getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(directory.resolve(DEAD_LETTER_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(bytes));
+            channel.force(false);
+        }
+    }
+
+    public synchronized void commit(LogPosition position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(12).putLong(position.segment()).putInt(position.offset());
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(buffer.flip());
+            channel.force(true);
+        }
+        Files.move(temp, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpoint = position;
+
+        for (long segment : listSegments()) {
+            if (segment < position.segment()) Files.deleteIfExists(segmentPath(segment));
+        }
+    }
+
+    public LogPosition checkpoint() {
+        return checkpoint;
+    }
+
+    public LogPosition tail() {
+        return tail;
+    }
+
+    private void roll(int recordBytes) throws IOException {
+        activeBuffer.force();
+        activeChannel.close();
+        long next = tail.segment() + 1;
+        mapSegment(next, Math.max(segmentBytes, recordBytes));
+        tail = new LogPosition(next, 0);
+        dirty = false;
+        log.debug("Webhook event log rolled to segment {}", next);
+    }
+
+    private void mapSegment(long segment, int size) throws IOException {
+        activeChannel = FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        activeBuffer = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, activeChannel.size()));
+    }
+
+    static int recoverTail(MappedByteBuffer buffer, int start) {
+        int offset = start;
+        while (offset + HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || offset + HEADER_BYTES + length > buffer.capacity()) break;
+
+            byte[] payload = new byte[length];
+            buffer.get(offset + HEADER_BYTES, payload);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(offset + 4)) break;
+            offset += HEADER_BYTES + length;
+        }
+
+        int last = buffer.capacity() - 1;
+        while (last >= offset && buffer.get(last) == 0) last--;
+        for (int i = offset; i <= last; i++) buffer.put(i, (byte) 0);
+        return offset;
+    }
+
+    private LogPosition readCheckpoint() throws IOException {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) return new LogPosition(listSegments().stream().findFirst().orElse(0L), 0);
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        return new LogPosition(buffer.getLong(), buffer.getInt());
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%020d%s", segment, SEGMENT_SUFFIX));
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "hubspot.webhook.ingestion.mode", havingValue = "wal")
+public class WebhookEventLogReplayer {
+
+    static final String CORRUPT = "corrupt";
+    static final String REJECTED = "rejected";
+    // connection exception, transaction rollback (serialization/deadlock), insufficient resources, operator intervention
+    private static final Set<String> TRANSIENT_SQL_STATE_CLASSES = Set.of("08", "40", "53", "57");
+
+    private final WebhookEventLog eventLog;
+    private final WebhookEventWriter eventWriter;
+    private final int recordsPerBatch;
+    private final int maxBatchesPerTick;
+    private final long maxTickNanos;
+    private final Counter replayedCounter;
+    private final Counter corruptCounter;
+    private final Counter rejectedCounter;
+
+    public WebhookEventLogReplayer(WebhookEventLog eventLog,
+                                   WebhookEventWriter eventWriter,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${hubspot.webhook.wal.replay-records-per-batch:64}") int recordsPerBatch,
+                                   @Value("${hubspot.webhook.wal.replay-max-batches-per-tick:32}") int maxBatchesPerTick,
+                                   @Value("${hubspot.webhook.wal.replay-max-tick-ms:2000}") long maxTickMs) {
+        this.eventLog = eventLog;
+        this.eventWriter = eventWriter;
+        this.recordsPerBatch = recordsPerBatch;
+        this.maxBatchesPerTick = Math.max(1, maxBatchesPerTick);
+        this.maxTickNanos = maxTickMs * 1_000_000;
+        this.replayedCounter = Counter.builder("webhook.wal.replayed")
+                .description("Webhook events replayed from the write-ahead log into the database")
+                .register(meterRegistry);
+        this.corruptCounter = deadLetterCounter(meterRegistry, CORRUPT);
+        this.rejectedCounter = deadLetterCounter(meterRegistry, REJECTED);
+    }
+
+    private static Counter deadLetterCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("webhook.wal.dead_lettered")
+                .description("Write-ahead log records moved to the dead-letter file, by reason")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Replays at most {@code replay-max-batches-per-tick} batches, stopping early once
+     * {@code replay-max-tick-ms} has passed, so a long backlog is drained over several
+     * ticks instead of holding a scheduler thread.
+     */
+    @Scheduled(fixedDelayString = "${hubspot.webhook.wal.replay-interval-ms:500}")
+    public void replay() {
+        long deadline = System.nanoTime() + maxTickNanos;
+        try {
+            for (int batch = 0; batch < maxBatchesPerTick && System.nanoTime() - deadline < 0; batch++) {
+                if (!replayNextBatch()) return;
+            }
+        } catch (IOException e) {
+            log.error("Failed to read the webhook event log: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the next records in one batch. A transient failure (connection, timeout,
+     * lock) keeps the checkpoint so the batch is retried; any other failure is retried
+     * record by record and the records that still fail are dead-lettered, as are corrupt
+     * records, so one bad record cannot stall the log.
+     */
+    boolean replayNextBatch() throws IOException {
+        List<WebhookEventLog.Entry> entries = eventLog.read(eventLog.checkpoint(), recordsPerBatch);
+        if (entries.isEmpty()) return false;
+
+        List<ContactCreationEventRequest> events = new ArrayList<>();
+        entries.forEach(entry -> events.addAll(entry.events()));
+        try {
+            eventWriter.write(events);
+        } catch (Exception e) {
+            if (isTransient(e)) {
+                log.warn("Replay of {} logged webhook events deferred: {}", events.size(), e.getMessage());
+                return false;
+            }
+            log.warn("Replay of {} logged webhook events failed, retrying record by record: {}", events.size(), e.getMessage());
+            return replayOneByOne(entries);
+        }
+
+        for (WebhookEventLog.Entry entry : entries) {
+            if (entry.corrupt()) deadLetter(entry, CORRUPT);
+        }
+        eventLog.commit(entries.getLast().next());
+        replayedCounter.increment(events.size());
+        return true;
+    }
+
+    private boolean replayOneByOne(List<WebhookEventLog.Entry> entries) throws IOException {
+        for (WebhookEventLog.Entry entry : entries) {
+            if (entry.corrupt()) {
+                deadLetter(entry, CORRUPT);
+            } else {
+                try {
+                    eventWriter.write(entry.events());
+                    replayedCounter.increment(entry.events().size());
+                } catch (Exception e) {
+                    if (isTransient(e)) {
+                        log.warn("Replay of logged webhook events deferred: {}", e.getMessage());
+                        return false;
+                    }
+                    log.error("Dead-lettering {} logged webhook events: {}", entry.events().size(), e.getMessage());
+                    deadLetter(entry, REJECTED);
+                }
+            }
+            eventLog.commit(entry.next());
+        }
+        return true;
+    }
+
+    private void deadLetter(WebhookEventLog.Entry entry, String reason) throws IOException {
+        eventLog.deadLetter(entry, reason);
+        (CORRUPT.equals(reason) ? corruptCounter : rejectedCounter).increment();
+    }
+
+    static boolean isTransient(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof TransientDataAccessException
+                    || t instanceof RecoverableDataAccessException
+                    || t instanceof DataAccessResourceFailureException
+                    || t instanceof CannotCreateTransactionException
+                    || t instanceof SQLTransientException
+                    || t instanceof SQLRecoverableException
+                    || t instanceof SocketException
+                    || t instanceof SocketTimeoutException) return true;
+            if (t instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().length() >= 2
+                    && TRANSIENT_SQL_STATE_CLASSES.contains(sql.getSQLState().substring(0, 2))) return true;
+        }
+        return false;
+    }
+}
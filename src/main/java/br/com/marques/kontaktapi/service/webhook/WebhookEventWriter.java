@@ -0,0 +1,111 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventBatchRepository;
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventCopyLoader;
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Slf4j
+@Service
+public class WebhookEventWriter {
+
+    private final ContactCreationEventRepository repository;
+    private final ContactCreationEventBatchRepository batchRepository;
+    private final ContactCreationEventCopyLoader copyLoader;
+    private final EventIdBloomFilter seenEventIds;
+    private final EventRollupStore rollupStore;
+    private final WebhookEventDispatcher dispatcher;
+    private final WebhookAdmissionController admissionController;
+    private final int copyThreshold;
+    private final DistributionSummary duplicatesSummary;
+
+    public WebhookEventWriter(ContactCreationEventRepository repository,
+                              ContactCreationEventBatchRepository batchRepository,
+                              ContactCreationEventCopyLoader copyLoader,
+                              EventIdBloomFilter seenEventIds,
+                              EventRollupStore rollupStore,
+                              WebhookEventDispatcher dispatcher,
+                              WebhookAdmissionController admissionController,
+                              MeterRegistry meterRegistry,
+                              @Value("${hubspot.webhook.copy-threshold:500}") int copyThreshold) {
+        this.repository = repository;
+        this.batchRepository = batchRepository;
+        this.copyLoader = copyLoader;
+        this.seenEventIds = seenEventIds;
+        this.rollupStore = rollupStore;
+        this.dispatcher = dispatcher;
+        this.admissionController = admissionController;
+        this.copyThreshold = copyThreshold;
+        this.duplicatesSummary = DistributionSummary.builder("webhook.dedup.dropped")
+                .description("Duplicate webhook deliveries dropped per batch")
+                .register(meterRegistry);
+    }
+
+    @Transactional
+    public List<ContactCreationEventRequest> write(List<ContactCreationEventRequest> events) {
+        if (events.isEmpty()) return List.of();
+
+        List<ContactCreationEventRequest> candidates = dropKnownDuplicates(uniqueByEventId(events));
+        List<ContactCreationEventRequest> inserted;
+        long start = System.nanoTime();
+        try {
+            inserted = candidates.size() >= copyThreshold
+                    ? copyLoader.load(candidates)
+                    : batchRepository.insertIgnoringDuplicates(candidates);
+        } finally {
+            admissionController.recordWriteLatency(System.nanoTime() - start);
+        }
+        candidates.stream()
+                .map(ContactCreationEventRequest::eventId)
+                .filter(Objects::nonNull)
+                .forEach(seenEventIds::put);
+        rollupStore.recordAfterCommit(inserted);
+        dispatcher.dispatchAfterCommit(inserted);
+
+        int duplicates = events.size() - inserted.size();
+        duplicatesSummary.record(duplicates);
+        if (duplicates > 0)
+            log.info("Dropped {} duplicate contact creation events out of {}", duplicates, events.size());
+        log.debug("Persisted {} contact creation events", inserted.size());
+        return inserted;
+    }
+
+    private List<ContactCreationEventRequest> uniqueByEventId(List<ContactCreationEventRequest> events) {
+        Map<Long, ContactCreationEventRequest> byEventId = new LinkedHashMap<>();
+        List<ContactCreationEventRequest> unique = new ArrayList<>(events.size());
+        for (ContactCreationEventRequest event : events) {
+            if (event.eventId() == null) unique.add(event);
+            else if (byEventId.putIfAbsent(event.eventId(), event) == null) unique.add(event);
+        }
+        return unique;
+    }
+
+    private List<ContactCreationEventRequest> dropKnownDuplicates(List<ContactCreationEventRequest> events) {
+        Set<Long> suspected = new HashSet<>();
+        for (ContactCreationEventRequest event : events) {
+            if (event.eventId() != null && seenEventIds.mightContain(event.eventId())) suspected.add(event.eventId());
+        }
+        if (suspected.isEmpty()) return events;
+
+        Set<Long> existing = repository.findExistingEventIds(suspected);
+        if (existing.isEmpty()) return events;
+
+        return events.stream()
+                .filter(event -> event.eventId() == null || !existing.contains(event.eventId()))
+                .toList();
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.controller.exception.GenericException;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "hubspot.webhook.ingestion.mode", havingValue = "async")
+public class WebhookIngestionQueue {
+
+    private final WebhookEventWriter eventWriter;
+    private final BlockingQueue<ContactCreationEventRequest> queue;
+    private final Semaphore capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int maxRetries;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public WebhookIngestionQueue(WebhookEventWriter eventWriter,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${hubspot.webhook.ingestion.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${hubspot.webhook.ingestion.batch-size:500}") int batchSize,
+                                 @Value("${hubspot.webhook.ingestion.flush-interval-ms:200}") long flushIntervalMs,
+                                 @Value("${hubspot.webhook.ingestion.max-retries:3}") int maxRetries) {
+        this.eventWriter = eventWriter;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.capacity = new Semaphore(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.maxRetries = maxRetries;
+
+        Gauge.builder("webhook.ingestion.queue.depth", queue, BlockingQueue::size)
+                .description("Webhook events waiting to be persisted")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("webhook.ingestion.batch.size")
+                .description("Events persisted per flush")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("webhook.ingestion.flush.latency")
+                .description("Time spent persisting one batch")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("webhook.ingestion.dropped")
+                .description("Events discarded after exhausting flush retries")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "webhook-ingestion-writer");
+        writerThread.start();
+        log.info("Webhook ingestion queue started (batchSize={}, flushInterval={}ms)",
+                batchSize, TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) * 10 + 5000);
+        if (!queue.isEmpty())
+            log.warn("Webhook ingestion queue stopped with {} events still pending", queue.size());
+    }
+
+    public void enqueue(List<ContactCreationEventRequest> events) {
+        if (events.isEmpty()) return;
+
+        if (!running || !capacity.tryAcquire(events.size())) {
+            log.warn("Webhook ingestion queue is full, rejecting {} events", events.size());
+            throw new GenericException("Webhook ingestion queue is full", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        queue.addAll(events);
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<ContactCreationEventRequest> batch = nextBatch();
+                if (!batch.isEmpty()) flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<ContactCreationEventRequest> nextBatch() throws InterruptedException {
+        List<ContactCreationEventRequest> batch = new ArrayList<>(batchSize);
+        ContactCreationEventRequest first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) return batch;
+
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) break;
+
+            ContactCreationEventRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) break;
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<ContactCreationEventRequest> batch) throws InterruptedException {
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    flushTimer.record(() -> eventWriter.write(batch));
+                    batchSizeSummary.record(batch.size());
+                    return;
+                } catch (Exception e) {
+                    if (attempt > maxRetries) {
+                        log.error("Dropping {} webhook events after {} attempts: {}", batch.size(), attempt, e.getMessage());
+                        droppedCounter.increment(batch.size());
+                        return;
+                    }
+                    log.warn("Flush attempt {} failed for {} webhook events: {}", attempt, batch.size(), e.getMessage());
+                    Thread.sleep(100L << Math.min(attempt, 6));
+                }
+            }
+        } finally {
+            capacity.release(batch.size());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+-- Tables created before partitioning (by ddl-auto) are migrated in place: the heap table is
+-- renamed, the partitioned table and one partition per month of existing data are created,
+-- rows are copied over and the old table is dropped, all in this block's transaction.
+-- Heap tables can predate eventId deduplication and hold redeliveries, so only the first
+-- row of every event is copied. Rows without an occurred_at cannot be routed to a partition;
+-- they are kept with the migration time instead of being dropped.
+DO $$
+DECLARE
+    month       date;
+    migrated_at timestamp(6) := localtimestamp;
+    undated     bigint;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_class WHERE oid = to_regclass('contact_creation_events') AND relkind = 'r') THEN
+        ALTER TABLE contact_creation_events RENAME TO contact_creation_events_unpartitioned;
+        ALTER TABLE contact_creation_events_unpartitioned
+            DROP CONSTRAINT IF EXISTS contact_creation_events_pkey,
+            DROP CONSTRAINT IF EXISTS uk_contact_creation_events_event_id;
+        DROP INDEX IF EXISTS idx_contact_creation_events_occurred_at_id,
+            idx_contact_creation_events_portal_occurred_at,
+            idx_contact_creation_events_object_occurred_at,
+            idx_contact_creation_events_subscription_type_occurred_at,
+            idx_contact_creation_events_change_source_occurred_at;
+    END IF;
+
+    CREATE TABLE IF NOT EXISTS contact_creation_events (
+        id                bigserial    NOT NULL,
+        event_id          bigint,
+        subscription_id   bigint,
+        portal_id         bigint,
+        app_id            bigint,
+        occurred_at       timestamp(6) NOT NULL,
+        subscription_type varchar(255),
+        attempt_number    integer,
+        object_id         bigint,
+        change_flag       varchar(255),
+        change_source     varchar(255),
+        CONSTRAINT contact_creation_events_pkey PRIMARY KEY (id, occurred_at),
+        CONSTRAINT uk_contact_creation_events_event_id UNIQUE (event_id, occurred_at)
+    ) PARTITION BY RANGE (occurred_at);
+
+    CREATE TABLE IF NOT EXISTS contact_creation_events_default PARTITION OF contact_creation_events DEFAULT;
+
+    IF to_regclass('contact_creation_events_unpartitioned') IS NOT NULL THEN
+        SELECT count(*) INTO undated FROM contact_creation_events_unpartitioned WHERE occurred_at IS NULL;
+        IF undated > 0 THEN
+            RAISE NOTICE 'Migrating % contact creation events without occurred_at as of %', undated, migrated_at;
+        END IF;
+
+        FOR month IN SELECT DISTINCT date_trunc('month', COALESCE(occurred_at, migrated_at))::date
+                     FROM contact_creation_events_unpartitioned LOOP
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF contact_creation_events FOR VALUES FROM (%L) TO (%L)',
+                    'contact_creation_events_p' || to_char(month, 'YYYYMM'), month, (month + interval '1 month')::date);
+        END LOOP;
+
+        INSERT INTO contact_creation_events (id, event_id, subscription_id, portal_id, app_id, occurred_at,
+                                             subscription_type, attempt_number, object_id, change_flag, change_source)
+        SELECT id, event_id, subscription_id, portal_id, app_id, COALESCE(occurred_at, migrated_at),
+               subscription_type, attempt_number, object_id, change_flag, change_source
+        FROM (SELECT *, row_number() OVER (PARTITION BY event_id ORDER BY id) AS delivery
+              FROM contact_creation_events_unpartitioned) legacy
+        WHERE event_id IS NULL OR delivery = 1
+        ON CONFLICT DO NOTHING;
+
+        PERFORM setval(pg_get_serial_sequence('contact_creation_events', 'id'),
+                       (SELECT COALESCE(MAX(id), 0) + 1 FROM contact_creation_events), false);
+
+        DROP TABLE contact_creation_events_unpartitioned;
+    END IF;
+END
+$$;
+
+CREATE INDEX IF NOT EXISTS idx_contact_creation_events_occurred_at_id ON contact_creation_events (occurred_at, id);
+CREATE INDEX IF NOT EXISTS idx_contact_creation_events_portal_occurred_at ON contact_creation_events (portal_id, occurred_at, id);
+CREATE INDEX IF NOT EXISTS idx_contact_creation_events_object_occurred_at ON contact_creation_events (object_id, occurred_at, id);
+CREATE INDEX IF NOT EXISTS idx_contact_creation_events_subscription_type_occurred_at ON contact_creation_events (subscription_type, occurred_at, id);
+CREATE INDEX IF NOT EXISTS idx_contact_creation_events_change_source_occurred_at ON contact_creation_events (change_source, occurred_at, id);
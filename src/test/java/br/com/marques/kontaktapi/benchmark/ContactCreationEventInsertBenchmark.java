@@ -0,0 +1,157 @@
+package br.com.marques.kontaktapi.benchmark;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventBatchRepository;
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventCopyLoader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.marques.kontaktapi.domain.entity.ContactCreationEventEntity.convertLongToLocalDateTime;
+
+/**
+ * Rows/sec for persisting one webhook delivery. {@code rowByRow} replays what
+ * {@code saveAll} does with an IDENTITY id (one INSERT ... RETURNING id round trip per
+ * entity); {@code multiRow} goes through {@link ContactCreationEventBatchRepository} and
+ * {@code copy} through {@link ContactCreationEventCopyLoader}.
+ * Needs a reachable Postgres, configured with -Dbenchmark.db.url/user/password.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ContactCreationEventInsertBenchmark {
+
+    private static final String ROW_BY_ROW_INSERT = """
+            INSERT INTO contact_creation_events
+                (event_id, subscription_id, portal_id, app_id, occurred_at, subscription_type,
+                 attempt_number, object_id, change_flag, change_source)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) RETURNING id
+            """;
+
+    @Param({"100", "1000", "10000"})
+    public int deliverySize;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private ContactCreationEventBatchRepository batchRepository;
+    private ContactCreationEventCopyLoader copyLoader;
+    private TransactionTemplate transactionTemplate;
+    private long firstEventId;
+    private long nextEventId;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Rows {
+        public long rows;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/kontakt-db"),
+                System.getProperty("benchmark.db.user", "postgres"),
+                System.getProperty("benchmark.db.password", "postgres"),
+                true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS contact_creation_events (
+                    id bigserial PRIMARY KEY,
+                    event_id bigint CONSTRAINT uk_contact_creation_events_event_id UNIQUE,
+                    subscription_id bigint,
+                    portal_id bigint,
+                    app_id bigint,
+                    occurred_at timestamp(6),
+                    subscription_type varchar(255),
+                    attempt_number integer,
+                    object_id bigint,
+                    change_flag varchar(255),
+                    change_source varchar(255))
+                """);
+        batchRepository = new ContactCreationEventBatchRepository(jdbcTemplate, 1000);
+        copyLoader = new ContactCreationEventCopyLoader(dataSource, jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        firstEventId = System.currentTimeMillis() * 1000;
+        nextEventId = firstEventId;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM contact_creation_events WHERE event_id >= ?", firstEventId);
+        dataSource.destroy();
+    }
+
+    private List<ContactCreationEventRequest> nextDelivery() {
+        List<ContactCreationEventRequest> events = new ArrayList<>(deliverySize);
+        for (int i = 0; i < deliverySize; i++) {
+            long eventId = nextEventId++;
+            events.add(new ContactCreationEventRequest(eventId, 1L, 42L, 7L, System.currentTimeMillis(),
+                    "contact.creation", 0, eventId, "CREATED", "CRM"));
+        }
+        return events;
+    }
+
+    @Benchmark
+    public void rowByRow(Rows rows) {
+        List<ContactCreationEventRequest> events = nextDelivery();
+        jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement ps = connection.prepareStatement(ROW_BY_ROW_INSERT)) {
+                for (ContactCreationEventRequest event : events) {
+                    bind(ps, event);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        rs.next();
+                    }
+                }
+            }
+            return null;
+        });
+        rows.rows += events.size();
+    }
+
+    @Benchmark
+    public void multiRow(Rows rows) {
+        rows.rows += batchRepository.insertIgnoringDuplicates(nextDelivery()).size();
+    }
+
+    @Benchmark
+    public void copy(Rows rows) {
+        List<ContactCreationEventRequest> events = nextDelivery();
+        rows.rows += transactionTemplate.execute(status -> copyLoader.load(events)).size();
+    }
+
+    private static void bind(PreparedStatement ps, ContactCreationEventRequest event) throws SQLException {
+        ps.setObject(1, event.eventId(), Types.BIGINT);
+        ps.setObject(2, event.subscriptionId(), Types.BIGINT);
+        ps.setObject(3, event.portalId(), Types.BIGINT);
+        ps.setObject(4, event.appId(), Types.BIGINT);
+        ps.setTimestamp(5, Timestamp.valueOf(convertLongToLocalDateTime(event.occurredAt())));
+        ps.setString(6, event.subscriptionType());
+        ps.setObject(7, event.attemptNumber(), Types.INTEGER);
+        ps.setObject(8, event.objectId(), Types.BIGINT);
+        ps.setString(9, event.changeFlag());
+        ps.setString(10, event.changeSource());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ContactCreationEventInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
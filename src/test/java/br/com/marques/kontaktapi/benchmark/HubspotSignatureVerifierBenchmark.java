@@ -0,0 +1,75 @@
+package br.com.marques.kontaktapi.benchmark;
+
+import br.com.marques.kontaktapi.config.hubspot.HmacValidationAspect;
+import br.com.marques.kontaktapi.config.hubspot.HubspotSignatureVerifier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signature verifications/sec for one webhook delivery. {@code concatenated} is the
+ * previous aspect logic (String signature base, Mac.getInstance per call, Base64 string
+ * compare); {@code verifier} goes through {@link HubspotSignatureVerifier}. Run with
+ * -prof gc (main() adds it) and compare gc.alloc.rate.norm for bytes per verification.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HubspotSignatureVerifierBenchmark {
+
+    private static final String SECRET = "benchmark-client-secret";
+    private static final String HOST = "kontakt.example.com";
+    private static final String URI = "/api/hubspot/webhook/contact";
+    private static final String TIMESTAMP = "1700000000000";
+
+    @Param({"1", "100"})
+    public int deliverySize;
+
+    private HubspotSignatureVerifier verifier;
+    private byte[] body;
+    private String bodyText;
+    private String signature;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        verifier = new HubspotSignatureVerifier(SECRET);
+        String event = "{\"eventId\":1,\"subscriptionId\":1,\"portalId\":42,\"appId\":7,\"occurredAt\":1700000000000,"
+                + "\"subscriptionType\":\"contact.creation\",\"attemptNumber\":0,\"objectId\":123,"
+                + "\"changeFlag\":\"CREATED\",\"changeSource\":\"CRM\"}";
+        String[] events = new String[deliverySize];
+        Arrays.fill(events, event);
+        bodyText = "[" + String.join(",", events) + "]";
+        body = bodyText.getBytes(StandardCharsets.UTF_8);
+        signature = HmacValidationAspect.generateHmac("POST" + HmacValidationAspect.HTTP_PROTOCOL + HOST + URI
+                + bodyText + TIMESTAMP, SECRET);
+    }
+
+    @Benchmark
+    public boolean concatenated() {
+        String received = new String(body, StandardCharsets.UTF_8);
+        String signatureBase = "POST" + HmacValidationAspect.HTTP_PROTOCOL + HOST + URI + received + TIMESTAMP;
+        return Objects.equals(HmacValidationAspect.generateHmac(signatureBase, SECRET), signature);
+    }
+
+    @Benchmark
+    public boolean verifier() {
+        return verifier.verify("POST", HOST, URI, body, 0, body.length, TIMESTAMP, signature);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(HubspotSignatureVerifierBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
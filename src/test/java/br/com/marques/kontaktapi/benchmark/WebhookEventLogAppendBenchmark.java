@@ -0,0 +1,88 @@
+package br.com.marques.kontaktapi.benchmark;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import br.com.marques.kontaktapi.service.webhook.WalSyncPolicy;
+import br.com.marques.kontaktapi.service.webhook.WebhookEventLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.io.file.PathUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Events/sec appended to {@link WebhookEventLog} for one webhook delivery under each
+ * sync policy. {@code INTERVAL} runs a background sync every 100 ms like the scheduled
+ * task does in the application. Writes to a temp directory, so point java.io.tmpdir at
+ * the disk being measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WebhookEventLogAppendBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int deliverySize;
+
+    @Param({"NEVER", "INTERVAL", "ALWAYS"})
+    public WalSyncPolicy syncPolicy;
+
+    private Path directory;
+    private WebhookEventLog eventLog;
+    private ScheduledExecutorService syncer;
+    private List<ContactCreationEventRequest> delivery;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Events {
+        public long events;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("webhook-wal-bench");
+        eventLog = new WebhookEventLog(new ObjectMapper(), new SimpleMeterRegistry(),
+                directory, 64 * 1024 * 1024, syncPolicy);
+        eventLog.open();
+        syncer = Executors.newSingleThreadScheduledExecutor();
+        syncer.scheduleWithFixedDelay(eventLog::sync, 100, 100, TimeUnit.MILLISECONDS);
+
+        delivery = new ArrayList<>(deliverySize);
+        for (int i = 0; i < deliverySize; i++) {
+            delivery.add(new ContactCreationEventRequest((long) i, 1L, 42L, 7L, System.currentTimeMillis(),
+                    "contact.creation", 0, (long) i, "CREATED", "CRM"));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        syncer.shutdownNow();
+        eventLog.close();
+        PathUtils.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public void append(Events events) {
+        eventLog.append(delivery);
+        events.events += deliverySize;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WebhookEventLogAppendBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
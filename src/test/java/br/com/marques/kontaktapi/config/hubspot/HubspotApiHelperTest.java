@@ -0,0 +1,151 @@
+package br.com.marques.kontaktapi.config.hubspot;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HubspotApiHelper Tests")
+class HubspotApiHelperTest {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE = new ParameterizedTypeReference<>() {};
+
+    private final AtomicInteger exchanges = new AtomicInteger();
+    private final List<Sinks.One<ClientResponse>> responses = new CopyOnWriteArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private HubspotApiHelper helper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    exchanges.incrementAndGet();
+                    Sinks.One<ClientResponse> response = Sinks.one();
+                    responses.add(response);
+                    return response.asMono();
+                })
+                .build();
+        helper = new HubspotApiHelper(webClient, meterRegistry);
+    }
+
+    private void respond(int index, String body) {
+        responses.get(index).tryEmitValue(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("hubspot.api.get.requests", "result", result).count();
+    }
+
+    @Nested
+    @DisplayName("executeGetJsonCall")
+    class ExecuteGetJsonCallTests {
+
+        @Test
+        @DisplayName("shouldShareUpstreamCall_WhenIdenticalGetsOverlap")
+        void shouldShareUpstreamCall_WhenIdenticalGetsOverlap() {
+            Mono<Map<String, Object>> first = helper.executeGetJsonCall("/crm/v3/objects/contacts", MAP_TYPE, "token").cache();
+            Mono<Map<String, Object>> second = helper.executeGetJsonCall("/crm/v3/objects/contacts", MAP_TYPE, "token").cache();
+            first.subscribe();
+            second.subscribe();
+
+            respond(0, "{\"total\":3}");
+
+            assertEquals(Map.of("total", 3), first.block());
+            assertEquals(Map.of("total", 3), second.block());
+            assertEquals(1, exchanges.get());
+            assertEquals(1.0, count("upstream"));
+            assertEquals(1.0, count("coalesced"));
+        }
+
+        @Test
+        @DisplayName("shouldTakePermitOnlyForLeader_WhenIdenticalGetsOverlap")
+        void shouldTakePermitOnlyForLeader_WhenIdenticalGetsOverlap() {
+            AtomicInteger permits = new AtomicInteger();
+            Mono<Object> permit = Mono.fromSupplier(permits::incrementAndGet);
+            Mono<Map<String, Object>> first = helper.executeGetJsonCall("/crm/v3/objects/contacts", MAP_TYPE, "token", permit).cache();
+            Mono<Map<String, Object>> second = helper.executeGetJsonCall("/crm/v3/objects/contacts", MAP_TYPE, "token", permit).cache();
+            first.subscribe();
+            second.subscribe();
+
+            respond(0, "{\"total\":3}");
+
+            assertEquals(Map.of("total", 3), second.block());
+            assertEquals(1, permits.get());
+            assertEquals(1, exchanges.get());
+        }
+
+        @Test
+        @DisplayName("shouldNotCallUpstream_WhenPermitIsRefused")
+        void shouldNotCallUpstream_WhenPermitIsRefused() {
+            Mono<Map<String, Object>> call = helper.executeGetJsonCall("/crm/v3/objects/contacts", MAP_TYPE, "token",
+                    Mono.error(new IllegalStateException("no permit")));
+
+            assertThrows(IllegalStateException.class, call::block);
+            assertEquals(0, exchanges.get());
+        }
+
+        @Test
+        @DisplayName("shouldCallUpstreamSeparately_WhenTokenOrQueryDiffers")
+        void shouldCallUpstreamSeparately_WhenTokenOrQueryDiffers() {
+            helper.executeGetJsonCall("/crm/v3/objects/contacts", MAP_TYPE, "token-a").subscribe();
+            helper.executeGetJsonCall("/crm/v3/objects/contacts", MAP_TYPE, "token-b").subscribe();
+            helper.executeGetJsonCall("/crm/v3/objects/contacts?limit=10", MAP_TYPE, "token-a").subscribe();
+
+            assertEquals(3, exchanges.get());
+            assertEquals(0.0, count("coalesced"));
+        }
+
+        @Test
+        @DisplayName("shouldCallUpstreamAgain_WhenPreviousFlightCompleted")
+        void shouldCallUpstreamAgain_WhenPreviousFlightCompleted() {
+            Mono<Map<String, Object>> first = helper.executeGetJsonCall("/crm/v3/objects/contacts", MAP_TYPE, "token").cache();
+            first.subscribe();
+            respond(0, "{\"total\":1}");
+            assertEquals(Map.of("total", 1), first.block());
+
+            Mono<Map<String, Object>> second = helper.executeGetJsonCall("/crm/v3/objects/contacts", MAP_TYPE, "token").cache();
+            second.subscribe();
+            respond(1, "{\"total\":2}");
+
+            assertEquals(Map.of("total", 2), second.block());
+            assertEquals(2, exchanges.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("fetchAccessTokenInfo")
+    class FetchAccessTokenInfoTests {
+
+        @Test
+        @DisplayName("shouldNotExposeToken_WhenLookupFails")
+        void shouldNotExposeToken_WhenLookupFails() {
+            Mono<Map<String, Object>> info = helper.fetchAccessTokenInfo("secret-token").cache();
+            info.subscribe(value -> {}, e -> {});
+            responses.get(0).tryEmitValue(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+
+            IllegalStateException error = assertThrows(IllegalStateException.class, info::block);
+            assertFalse(error.getMessage().contains("secret-token"));
+            assertNull(error.getCause());
+        }
+    }
+}
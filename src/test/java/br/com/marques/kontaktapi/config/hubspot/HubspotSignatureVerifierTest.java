@@ -0,0 +1,100 @@
+package br.com.marques.kontaktapi.config.hubspot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HubspotSignatureVerifier Tests")
+class HubspotSignatureVerifierTest {
+
+    private static final String SECRET = "test-secret";
+    private static final String HOST = "kontakt.example.com";
+    private static final String URI = "/api/hubspot/webhook/contact";
+    private static final String TIMESTAMP = "1700000000000";
+    private static final byte[] BODY = "[{\"eventId\":1,\"objectId\":42}]".getBytes(StandardCharsets.UTF_8);
+
+    private final HubspotSignatureVerifier verifier = new HubspotSignatureVerifier(SECRET);
+
+    private static String sign(String uri, byte[] body) {
+        return HmacValidationAspect.generateHmac("POST" + HmacValidationAspect.HTTP_PROTOCOL + HOST + uri
+                + new String(body, StandardCharsets.UTF_8) + TIMESTAMP, SECRET);
+    }
+
+    @Nested
+    @DisplayName("verify")
+    class VerifyTests {
+
+        @Test
+        @DisplayName("shouldAcceptSignature_WhenComputedOverSameParts")
+        void shouldAcceptSignature_WhenComputedOverSameParts() {
+            String signature = sign(URI, BODY);
+
+            assertTrue(verifier.verify("POST", HOST, URI, BODY, 0, BODY.length, TIMESTAMP, signature));
+            assertTrue(verifier.verify("POST", HOST, URI, BODY, 0, BODY.length, TIMESTAMP, signature));
+        }
+
+        @Test
+        @DisplayName("shouldAcceptSignature_WhenUriContainsNonAsciiCharacters")
+        void shouldAcceptSignature_WhenUriContainsNonAsciiCharacters() {
+            String uri = URI + "/café";
+
+            assertTrue(verifier.verify("POST", HOST, uri, BODY, 0, BODY.length, TIMESTAMP, sign(uri, BODY)));
+        }
+
+        @Test
+        @DisplayName("shouldRejectSignature_WhenBodyWasTampered")
+        void shouldRejectSignature_WhenBodyWasTampered() {
+            String signature = sign(URI, BODY);
+            byte[] tampered = BODY.clone();
+            tampered[tampered.length - 3] = '3';
+
+            assertFalse(verifier.verify("POST", HOST, URI, tampered, 0, tampered.length, TIMESTAMP, signature));
+            assertTrue(verifier.verify("POST", HOST, URI, BODY, 0, BODY.length, TIMESTAMP, signature));
+        }
+
+        @Test
+        @DisplayName("shouldRejectSignature_WhenHeaderIsMalformedOrMissing")
+        void shouldRejectSignature_WhenHeaderIsMalformedOrMissing() {
+            assertFalse(verifier.verify("POST", HOST, URI, BODY, 0, BODY.length, TIMESTAMP, "not base64!"));
+            assertFalse(verifier.verify("POST", HOST, URI, BODY, 0, BODY.length, TIMESTAMP, "AAAA"));
+            assertFalse(verifier.verify("POST", HOST, URI, BODY, 0, BODY.length, TIMESTAMP, null));
+            assertFalse(verifier.verify("POST", HOST, URI, BODY, 0, BODY.length, null, sign(URI, BODY)));
+        }
+
+        @Test
+        @DisplayName("shouldMatchIncrementalSignature_WhenBodyIsFedInChunks")
+        void shouldMatchIncrementalSignature_WhenBodyIsFedInChunks() {
+            Mac mac = verifier.begin("POST", HOST, URI);
+            mac.update(BODY, 0, 5);
+            mac.update(BODY, 5, BODY.length - 5);
+
+            assertTrue(verifier.matches(mac, TIMESTAMP, sign(URI, BODY)));
+        }
+    }
+
+    @Nested
+    @DisplayName("decodeBase64")
+    class DecodeBase64Tests {
+
+        @Test
+        @DisplayName("shouldDecodeLikeJdkDecoder_WhenInputIsValid")
+        void shouldDecodeLikeJdkDecoder_WhenInputIsValid() {
+            for (int length = 0; length <= 32; length++) {
+                byte[] raw = new byte[length];
+                for (int i = 0; i < length; i++) raw[i] = (byte) (i * 37 + length);
+                byte[] out = new byte[32];
+
+                int decoded = HubspotSignatureVerifier.decodeBase64(Base64.getEncoder().encodeToString(raw), out);
+
+                assertEquals(length, decoded);
+                for (int i = 0; i < length; i++) assertEquals(raw[i], out[i]);
+            }
+        }
+    }
+}
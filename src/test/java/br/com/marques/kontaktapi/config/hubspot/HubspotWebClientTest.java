@@ -0,0 +1,31 @@
+package br.com.marques.kontaktapi.config.hubspot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("HubspotWebClient Tests")
+class HubspotWebClientTest {
+
+    @Nested
+    @DisplayName("uriTag")
+    class UriTagTests {
+
+        @Test
+        @DisplayName("shouldUseTemplate_WhenUriIsAKnownEndpoint")
+        void shouldUseTemplate_WhenUriIsAKnownEndpoint() {
+            assertEquals("/crm/v3/objects/contacts", HubspotWebClient.uriTag("/crm/v3/objects/contacts?limit=100&after=abc"));
+            assertEquals("/crm/v3/objects/contacts/{id}", HubspotWebClient.uriTag("/crm/v3/objects/contacts/12345"));
+            assertEquals("/crm/v3/objects/contacts/batch/create", HubspotWebClient.uriTag("/crm/v3/objects/contacts/batch/create"));
+        }
+
+        @Test
+        @DisplayName("shouldUseOther_WhenUriIsNotAllowListed")
+        void shouldUseOther_WhenUriIsNotAllowListed() {
+            assertEquals(HubspotWebClient.OTHER_URI, HubspotWebClient.uriTag("/oauth/v1/access-tokens/secret-token"));
+            assertEquals(HubspotWebClient.OTHER_URI, HubspotWebClient.uriTag("/crm/v3/objects/contacts/abc-def"));
+        }
+    }
+}
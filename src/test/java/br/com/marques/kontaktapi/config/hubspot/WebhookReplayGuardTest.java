@@ -0,0 +1,169 @@
+package br.com.marques.kontaktapi.config.hubspot;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookReplayGuard Tests")
+class WebhookReplayGuardTest {
+
+    private static final long NOW = 1_800_000_000_000L;
+    private static final String SIGNATURE = "c2lnbmF0dXJl";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(NOW);
+    }
+
+    private WebhookReplayGuard guard(int maxEntries, boolean shared) {
+        return new WebhookReplayGuard(redisTemplate, meterRegistry, clock, 300_000, 10_000, maxEntries, shared);
+    }
+
+    @Nested
+    @DisplayName("isFresh")
+    class IsFreshTests {
+
+        @Test
+        @DisplayName("shouldAcceptTimestamp_WhenWithinTolerance")
+        void shouldAcceptTimestamp_WhenWithinTolerance() {
+            WebhookReplayGuard guard = guard(1_000, false);
+
+            assertTrue(guard.isFresh(String.valueOf(NOW - 300_000)));
+            assertTrue(guard.isFresh(String.valueOf(NOW + 60_000)));
+        }
+
+        @Test
+        @DisplayName("shouldRejectTimestamp_WhenOutsideToleranceOrMalformed")
+        void shouldRejectTimestamp_WhenOutsideToleranceOrMalformed() {
+            WebhookReplayGuard guard = guard(1_000, false);
+
+            assertFalse(guard.isFresh(String.valueOf(NOW - 300_001)));
+            assertFalse(guard.isFresh(String.valueOf(NOW + 300_001)));
+            assertFalse(guard.isFresh("yesterday"));
+            assertFalse(guard.isFresh(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("firstDelivery")
+    class FirstDeliveryTests {
+
+        @Test
+        @DisplayName("shouldRejectSecondDelivery_WhenSignatureWasSeen")
+        void shouldRejectSecondDelivery_WhenSignatureWasSeen() {
+            WebhookReplayGuard guard = guard(1_000, false);
+            String timestamp = String.valueOf(NOW);
+
+            assertTrue(guard.firstDelivery(SIGNATURE, timestamp));
+            assertFalse(guard.firstDelivery(SIGNATURE, timestamp));
+            assertTrue(guard.firstDelivery("b3RoZXI=", timestamp));
+            verifyNoInteractions(redisTemplate);
+        }
+
+        @Test
+        @DisplayName("shouldForgetSignature_WhenBucketIsReusedByLaterTimestamps")
+        void shouldForgetSignature_WhenBucketIsReusedByLaterTimestamps() {
+            WebhookReplayGuard guard = guard(1_000, false);
+            assertTrue(guard.firstDelivery(SIGNATURE, String.valueOf(NOW)));
+
+            long slots = 2 * 300_000 / 10_000 + 2;
+            clock.advance(Duration.ofMillis(slots * 10_000));
+            assertTrue(guard.firstDelivery("bGF0ZXI=", String.valueOf(clock.millis())));
+
+            assertTrue(guard.firstDelivery(SIGNATURE, String.valueOf(NOW)));
+        }
+
+        @Test
+        @DisplayName("shouldCountOverflow_WhenBucketIsFull")
+        void shouldCountOverflow_WhenBucketIsFull() {
+            WebhookReplayGuard guard = guard(62, false);
+            String timestamp = String.valueOf(NOW);
+
+            assertTrue(guard.firstDelivery("YQ==", timestamp));
+            assertTrue(guard.firstDelivery("Yg==", timestamp));
+
+            assertEquals(1.0, meterRegistry.counter("webhook.replay.overflows").count());
+            assertFalse(guard.firstDelivery("YQ==", timestamp));
+        }
+
+        @Test
+        @DisplayName("shouldRejectDelivery_WhenAnotherNodeSawSignature")
+        void shouldRejectDelivery_WhenAnotherNodeSawSignature() {
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(eq(WebhookReplayGuard.KEY_PREFIX + SIGNATURE), eq("1"), any(Duration.class)))
+                    .thenReturn(false);
+
+            assertFalse(guard(1_000, true).firstDelivery(SIGNATURE, String.valueOf(NOW)));
+        }
+
+        @Test
+        @DisplayName("shouldFallBackToLocalCache_WhenRedisIsUnavailable")
+        void shouldFallBackToLocalCache_WhenRedisIsUnavailable() {
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                    .thenThrow(new RedisConnectionFailureException("down"));
+            WebhookReplayGuard guard = guard(1_000, true);
+
+            assertTrue(guard.firstDelivery(SIGNATURE, String.valueOf(NOW)));
+            assertFalse(guard.firstDelivery(SIGNATURE, String.valueOf(NOW)));
+            assertEquals(1.0, meterRegistry.counter("webhook.replay.redis.failures").count());
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(long millis) {
+            this.instant = Instant.ofEpochMilli(millis);
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.marques.kontaktapi.config.resilience;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveRateLimitController Tests")
+class AdaptiveRateLimitControllerTest {
+
+    private static final String LIMITER = "hubspotRateLimiter";
+
+    private RateLimiterRegistry rateLimiterRegistry;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiterRegistry = RateLimiterRegistry.of(RateLimiterConfig.custom()
+                .limitForPeriod(60)
+                .limitRefreshPeriod(Duration.ofSeconds(10))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private AdaptiveRateLimitController controller(boolean enabled, int maxLimit) {
+        return new AdaptiveRateLimitController(rateLimiterRegistry, meterRegistry, enabled, LIMITER, 1, maxLimit, 0.2, 5);
+    }
+
+    private int limit() {
+        RateLimiter rateLimiter = rateLimiterRegistry.rateLimiter(LIMITER);
+        return rateLimiter.getRateLimiterConfig().getLimitForPeriod();
+    }
+
+    private static HttpHeaders headers(long max, long remaining, long intervalMs) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(AdaptiveRateLimitController.MAX_HEADER, String.valueOf(max));
+        headers.add(AdaptiveRateLimitController.REMAINING_HEADER, String.valueOf(remaining));
+        headers.add(AdaptiveRateLimitController.INTERVAL_HEADER, String.valueOf(intervalMs));
+        return headers;
+    }
+
+    @Nested
+    @DisplayName("onResponse")
+    class OnResponseTests {
+
+        @Test
+        @DisplayName("shouldRaiseLimitStepwiseUpToHubspotBudget_WhenThereIsHeadroom")
+        void shouldRaiseLimitStepwiseUpToHubspotBudget_WhenThereIsHeadroom() {
+            AdaptiveRateLimitController controller = controller(true, 0);
+
+            controller.onResponse(HttpStatus.OK, headers(100, 90, 10_000));
+            assertEquals(65, limit());
+
+            for (int i = 0; i < 20; i++) controller.onResponse(HttpStatus.OK, headers(100, 90, 10_000));
+            assertEquals(100, limit());
+            assertEquals(90.0, meterRegistry.get("hubspot.ratelimit.remaining").gauge().value());
+        }
+
+        @Test
+        @DisplayName("shouldHalveLimitOncePerPeriod_WhenRemainingDropsBelowWatermark")
+        void shouldHalveLimitOncePerPeriod_WhenRemainingDropsBelowWatermark() {
+            AdaptiveRateLimitController controller = controller(true, 0);
+
+            controller.onResponse(HttpStatus.OK, headers(100, 10, 10_000));
+            controller.onResponse(HttpStatus.OK, headers(100, 5, 10_000));
+
+            assertEquals(30, limit());
+            assertEquals(1.0, meterRegistry.counter("hubspot.ratelimit.backoffs").count());
+        }
+
+        @Test
+        @DisplayName("shouldBackOff_WhenHubspotAnswersTooManyRequests")
+        void shouldBackOff_WhenHubspotAnswersTooManyRequests() {
+            controller(true, 0).onResponse(HttpStatus.TOO_MANY_REQUESTS, new HttpHeaders());
+
+            assertEquals(30, limit());
+        }
+
+        @Test
+        @DisplayName("shouldCapLimit_WhenMaxLimitIsConfigured")
+        void shouldCapLimit_WhenMaxLimitIsConfigured() {
+            controller(true, 40).onResponse(HttpStatus.OK, headers(190, 180, 10_000));
+
+            assertEquals(40, limit());
+        }
+
+        @Test
+        @DisplayName("shouldLeaveLimitUnchanged_WhenHeadersAreMissingOrDisabled")
+        void shouldLeaveLimitUnchanged_WhenHeadersAreMissingOrDisabled() {
+            controller(true, 0).onResponse(HttpStatus.OK, new HttpHeaders());
+            controller(false, 0).onResponse(HttpStatus.TOO_MANY_REQUESTS, new HttpHeaders());
+
+            assertEquals(60, limit());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.marques.kontaktapi.config.resilience;
+
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DistributedRateLimiter Tests")
+class DistributedRateLimiterTest {
+
+    private static final String LIMITER = "hubspotRateLimiter";
+    private static final List<String> BUCKET_KEY = List.of(DistributedRateLimiter.KEY_PREFIX + LIMITER + ":app");
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private RateLimiterRegistry rateLimiterRegistry;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiterRegistry = RateLimiterRegistry.of(RateLimiterConfig.custom()
+                .limitForPeriod(60)
+                .limitRefreshPeriod(Duration.ofSeconds(10))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private DistributedRateLimiter limiter(boolean enabled, long leaseMs) {
+        return limiter(enabled, leaseMs, 60_000);
+    }
+
+    private DistributedRateLimiter limiter(boolean enabled, long leaseMs, long failureCooldownMs) {
+        return new DistributedRateLimiter(redisTemplate, rateLimiterRegistry, meterRegistry, enabled, "app", 5, leaseMs,
+                failureCooldownMs);
+    }
+
+    private void grant(Long... granted) {
+        Long first = granted[0];
+        Long[] rest = Arrays.copyOfRange(granted, 1, granted.length);
+        when(redisTemplate.execute(eq(DistributedRateLimiter.TOKEN_BUCKET), eq(BUCKET_KEY), any(), any(), any()))
+                .thenReturn(first, rest);
+    }
+
+    @Nested
+    @DisplayName("acquirePermission")
+    class AcquirePermissionTests {
+
+        @Test
+        @DisplayName("shouldServePrefetchedPermitsLocally_WhenLeaseHasTokens")
+        void shouldServePrefetchedPermitsLocally_WhenLeaseHasTokens() {
+            grant(5L, 0L);
+            DistributedRateLimiter limiter = limiter(true, 60_000);
+
+            for (int i = 0; i < 5; i++) assertTrue(limiter.acquirePermission(LIMITER));
+            assertFalse(limiter.acquirePermission(LIMITER));
+
+            verify(redisTemplate, times(2)).execute(eq(DistributedRateLimiter.TOKEN_BUCKET), eq(BUCKET_KEY),
+                    eq("60"), eq(String.valueOf(60 / 10_000.0)), eq("5"));
+        }
+
+        @Test
+        @DisplayName("shouldFetchAgain_WhenLeaseExpired")
+        void shouldFetchAgain_WhenLeaseExpired() {
+            grant(5L, 5L);
+            DistributedRateLimiter limiter = limiter(true, 0);
+
+            assertTrue(limiter.acquirePermission(LIMITER));
+            assertTrue(limiter.acquirePermission(LIMITER));
+
+            assertEquals(2.0, meterRegistry.counter("ratelimit.distributed.redis.calls").count());
+        }
+
+        @Test
+        @DisplayName("shouldFallBackToLocalLimiter_WhenRedisIsUnavailable")
+        void shouldFallBackToLocalLimiter_WhenRedisIsUnavailable() {
+            rateLimiterRegistry = RateLimiterRegistry.of(RateLimiterConfig.custom()
+                    .limitForPeriod(1)
+                    .limitRefreshPeriod(Duration.ofHours(1))
+                    .timeoutDuration(Duration.ZERO)
+                    .build());
+            when(redisTemplate.execute(eq(DistributedRateLimiter.TOKEN_BUCKET), any(), any(), any(), any()))
+                    .thenThrow(new RedisConnectionFailureException("down"));
+            DistributedRateLimiter limiter = limiter(true, 60_000, 0);
+
+            assertTrue(limiter.acquirePermission(LIMITER));
+            assertFalse(limiter.acquirePermission(LIMITER));
+            assertEquals(2.0, meterRegistry.counter("ratelimit.distributed.redis.failures").count());
+        }
+
+        @Test
+        @DisplayName("shouldSkipRedis_WhenPreviousCallFailedWithinCooldown")
+        void shouldSkipRedis_WhenPreviousCallFailedWithinCooldown() {
+            when(redisTemplate.execute(eq(DistributedRateLimiter.TOKEN_BUCKET), any(), any(), any(), any()))
+                    .thenThrow(new RedisConnectionFailureException("down"));
+            DistributedRateLimiter limiter = limiter(true, 60_000, 60_000);
+
+            assertTrue(limiter.acquirePermission(LIMITER));
+            assertTrue(limiter.acquirePermission(LIMITER));
+
+            assertEquals(1.0, meterRegistry.counter("ratelimit.distributed.redis.calls").count());
+            assertEquals(1.0, meterRegistry.counter("ratelimit.distributed.redis.failures").count());
+        }
+
+        @Test
+        @DisplayName("shouldUseLocalLimiterOnly_WhenDisabled")
+        void shouldUseLocalLimiterOnly_WhenDisabled() {
+            DistributedRateLimiter limiter = limiter(false, 60_000);
+
+            assertTrue(limiter.acquirePermission(LIMITER));
+
+            verifyNoInteractions(redisTemplate);
+        }
+    }
+}
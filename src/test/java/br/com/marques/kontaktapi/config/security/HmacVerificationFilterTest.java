@@ -0,0 +1,187 @@
+package br.com.marques.kontaktapi.config.security;
+
+import br.com.marques.kontaktapi.config.hubspot.HmacValidationAspect;
+import br.com.marques.kontaktapi.config.hubspot.HubspotSignatureVerifier;
+import br.com.marques.kontaktapi.config.hubspot.WebhookReplayGuard;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HmacVerificationFilter Tests")
+class HmacVerificationFilterTest {
+
+    private static final String SECRET = "test-secret";
+    private static final String HOST = "kontakt.example.com";
+    private static final String URI = "/api/hubspot/webhook/contact";
+    private static final String STALE_TIMESTAMP = "1700000000000";
+
+    private final HmacVerificationFilter filter = new HmacVerificationFilter(
+            new HubspotSignatureVerifier(SECRET),
+            new WebhookReplayGuard(null, new SimpleMeterRegistry(), 300_000, 10_000, 1_000, false),
+            new ObjectMapper(), 8, 256, 4);
+
+    private static MockHttpServletRequest request(String body, String signedBody) {
+        return request(body, signedBody, String.valueOf(System.currentTimeMillis()));
+    }
+
+    private static MockHttpServletRequest request(String body, String signedBody, String timestamp) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", URI);
+        request.addHeader(HmacValidationAspect.HOST, HOST);
+        request.addHeader(HmacValidationAspect.X_HUB_SPOT_REQUEST_TIMESTAMP, timestamp);
+        request.addHeader(HmacValidationAspect.X_HUB_SPOT_SIGNATURE_V_3, HmacValidationAspect.generateHmac(
+                "POST" + HmacValidationAspect.HTTP_PROTOCOL + HOST + URI + signedBody + timestamp, SECRET));
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static String readBody(MockFilterChain chain) throws IOException {
+        ServletRequest forwarded = chain.getRequest();
+        assertNotNull(forwarded);
+        return new String(forwarded.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("doFilter")
+    class DoFilterTests {
+
+        @Test
+        @DisplayName("shouldMarkSignatureValidAndForwardSameBytes_WhenSignatureMatches")
+        void shouldMarkSignatureValidAndForwardSameBytes_WhenSignatureMatches() throws Exception {
+            String body = "[{\"eventId\":1,\"note\":\"line one\\r\\nline two\"}]";
+            MockHttpServletRequest request = request(body, body);
+            MockFilterChain chain = new MockFilterChain();
+
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            assertEquals(Boolean.TRUE, request.getAttribute(HmacVerificationFilter.SIGNATURE_VALID_ATTRIBUTE));
+            assertEquals(body, readBody(chain));
+            assertEquals(body.length(), chain.getRequest().getContentLength());
+        }
+
+        @Test
+        @DisplayName("shouldMarkSignatureInvalid_WhenBodyDiffersFromSignedBody")
+        void shouldMarkSignatureInvalid_WhenBodyDiffersFromSignedBody() throws Exception {
+            MockHttpServletRequest request = request("[{\"eventId\":2}]", "[{\"eventId\":1}]");
+            MockFilterChain chain = new MockFilterChain();
+
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            assertEquals(Boolean.FALSE, request.getAttribute(HmacVerificationFilter.SIGNATURE_VALID_ATTRIBUTE));
+            assertNotNull(chain.getRequest());
+        }
+
+        @Test
+        @DisplayName("shouldDeliverBodyToReadListener_WhenReadAsynchronously")
+        void shouldDeliverBodyToReadListener_WhenReadAsynchronously() throws Exception {
+            String body = "[{\"eventId\":5}]";
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request(body, body), new MockHttpServletResponse(), chain);
+
+            ServletInputStream input = chain.getRequest().getInputStream();
+            ByteArrayOutputStream received = new ByteArrayOutputStream();
+            boolean[] allDataRead = new boolean[1];
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    byte[] chunk = new byte[4];
+                    int read;
+                    while (input.isReady() && (read = input.read(chunk)) != -1) received.write(chunk, 0, read);
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead[0] = true;
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    fail(t);
+                }
+            });
+
+            assertTrue(allDataRead[0]);
+            assertEquals(body, received.toString(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("shouldNotPoolGrownBuffer_WhenBodyOutgrewInitialBuffer")
+        void shouldNotPoolGrownBuffer_WhenBodyOutgrewInitialBuffer() throws Exception {
+            String small = "[1]";
+            String large = "[" + "1,".repeat(40) + "1]";
+
+            filter.doFilter(request(small, small), new MockHttpServletResponse(), new MockFilterChain());
+            assertEquals(1, filter.pooledBuffers());
+
+            filter.doFilter(request(large, large), new MockHttpServletResponse(), new MockFilterChain());
+            assertEquals(0, filter.pooledBuffers());
+        }
+
+        @Test
+        @DisplayName("shouldRejectWithPayloadTooLarge_WhenBodyExceedsLimit")
+        void shouldRejectWithPayloadTooLarge_WhenBodyExceedsLimit() throws Exception {
+            String body = "x".repeat(300);
+            MockHttpServletRequest request = request(body, body);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            filter.doFilter(request, response, chain);
+
+            assertEquals(413, response.getStatus());
+            assertNull(chain.getRequest());
+        }
+
+        @Test
+        @DisplayName("shouldRejectWithUnauthorized_WhenTimestampIsStale")
+        void shouldRejectWithUnauthorized_WhenTimestampIsStale() throws Exception {
+            String body = "[{\"eventId\":3}]";
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            filter.doFilter(request(body, body, STALE_TIMESTAMP), response, chain);
+
+            assertEquals(401, response.getStatus());
+            assertNull(chain.getRequest());
+        }
+
+        @Test
+        @DisplayName("shouldRejectWithConflict_WhenSignedRequestIsReplayed")
+        void shouldRejectWithConflict_WhenSignedRequestIsReplayed() throws Exception {
+            String body = "[{\"eventId\":4}]";
+            String timestamp = String.valueOf(System.currentTimeMillis());
+            filter.doFilter(request(body, body, timestamp), new MockHttpServletResponse(), new MockFilterChain());
+
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request(body, body, timestamp), response, chain);
+
+            assertEquals(409, response.getStatus());
+            assertNull(chain.getRequest());
+        }
+
+        @Test
+        @DisplayName("shouldPassThroughUntouched_WhenEndpointIsNotSigned")
+        void shouldPassThroughUntouched_WhenEndpointIsNotSigned() throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", URI);
+            MockFilterChain chain = new MockFilterChain();
+
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            assertSame(request, chain.getRequest());
+            assertNull(request.getAttribute(HmacVerificationFilter.SIGNATURE_VALID_ATTRIBUTE));
+        }
+    }
+}
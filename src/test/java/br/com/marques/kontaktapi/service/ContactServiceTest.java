@@ -5,6 +5,17 @@ import br.com.marques.kontaktapi.service.gateway.OAuthServiceGateway;
 import br.com.marques.kontaktapi.domain.dto.contact.ContactRequest;
 import br.com.marques.kontaktapi.domain.entity.User;
 import br.com.marques.kontaktapi.config.hubspot.HubspotApiHelper;
+import br.com.marques.kontaktapi.config.resilience.DistributedRateLimiter;
+import br.com.marques.kontaktapi.domain.dto.hubspot.HubspotContact;
+import br.com.marques.kontaktapi.domain.dto.hubspot.HubspotContactPage;
+import br.com.marques.kontaktapi.service.contact.ContactListCache;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,14 +24,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,6 +50,14 @@ class ContactServiceTest {
     private OAuthServiceGateway<?, ?> oauthService;
     @Mock
     private HubspotApiHelper hubspotApiHelper;
+    @Mock
+    private RateLimiterRegistry rateLimiterRegistry;
+    @Mock
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    @Mock
+    private DistributedRateLimiter distributedRateLimiter;
+    @Mock
+    private ContactListCache contactListCache;
     @InjectMocks
     private ContactService contactService;
 
@@ -47,6 +72,10 @@ class ContactServiceTest {
         mockContactRequest = new ContactRequest("test@example.com", "John", "Doe");
     }
 
+    private static <R> Answer<Mono<R>> leader(Mono<R> response) {
+        return invocation -> invocation.<Mono<?>>getArgument(3).then(response);
+    }
+
     @Nested
     @DisplayName("createContact")
     class CreateContactCreationEventEntityTests {
@@ -66,6 +95,7 @@ class ContactServiceTest {
 
             verify(authenticationService).getAuthenticated();
             verify(oauthService).getAccessTokenByUserId(1L);
+            verify(contactListCache).invalidateUser(1L);
             verify(hubspotApiHelper).executePostJsonCall("/crm/v3/objects/contacts", Map.of("properties", Map.of("email", "test@example.com", "firstname", "John", "lastname", "Doe")), ContactRequest.class, accessToken);
         }
 
@@ -129,4 +159,125 @@ class ContactServiceTest {
             assertEquals(Map.of("properties", expectedProperties), result);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("listContacts")
+    class ListContactsTests {
+
+        private CircuitBreaker circuitBreaker;
+
+        @BeforeEach
+        void setUp() {
+            circuitBreaker = CircuitBreaker.ofDefaults("CircuitBreaker");
+            when(authenticationService.getAuthenticated()).thenReturn(mockUser);
+            when(oauthService.getAccessTokenByUserId(1L)).thenReturn("token");
+            when(rateLimiterRegistry.rateLimiter("hubspotRateLimiter")).thenReturn(RateLimiter.ofDefaults("hubspotRateLimiter"));
+            when(circuitBreakerRegistry.circuitBreaker("CircuitBreaker")).thenReturn(circuitBreaker);
+            when(contactListCache.get(eq(1L), eq("token"), anyString(), any()))
+                    .thenAnswer(invocation -> invocation.<Supplier<Mono<Map<String, Object>>>>getArgument(3).get());
+        }
+
+        @Test
+        @DisplayName("shouldRecordFailureInCircuitBreaker_WhenHubspotCallFails")
+        void shouldRecordFailureInCircuitBreaker_WhenHubspotCallFails() {
+            when(distributedRateLimiter.acquirePermission("hubspotRateLimiter")).thenReturn(true);
+            when(hubspotApiHelper.executeGetJsonCall(eq("/crm/v3/objects/contacts"), any(), eq("token"), any()))
+                    .thenAnswer(leader(Mono.error(new IllegalStateException("HubSpot down"))));
+
+            StepVerifier.create(contactService.listContacts())
+                    .expectError(IllegalStateException.class)
+                    .verify();
+
+            assertEquals(1, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+        }
+
+        @Test
+        @DisplayName("shouldFailWithoutRecordingFailure_WhenRateLimiterRejects")
+        void shouldFailWithoutRecordingFailure_WhenRateLimiterRejects() {
+            when(distributedRateLimiter.acquirePermission("hubspotRateLimiter")).thenReturn(false);
+            when(hubspotApiHelper.executeGetJsonCall(eq("/crm/v3/objects/contacts"), any(), eq("token"), any()))
+                    .thenAnswer(leader(Mono.just(Map.of("total", 0))));
+
+            StepVerifier.create(contactService.listContacts())
+                    .expectError(RequestNotPermitted.class)
+                    .verify();
+
+            assertEquals(0, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+        }
+
+        @Test
+        @DisplayName("shouldNotCallHubspot_WhenCircuitBreakerIsOpen")
+        void shouldNotCallHubspot_WhenCircuitBreakerIsOpen() {
+            circuitBreaker.transitionToOpenState();
+
+            StepVerifier.create(contactService.listContacts())
+                    .expectError(CallNotPermittedException.class)
+                    .verify();
+
+            verify(hubspotApiHelper, never()).executeGetJsonCall(anyString(), any(), anyString(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("streamContacts")
+    class StreamContactsTests {
+
+        private HubspotContactPage page(String after, String... ids) {
+            List<HubspotContact> results = Arrays.stream(ids)
+                    .map(id -> new HubspotContact(id, Map.of("email", id + "@example.com"), null, null, false))
+                    .toList();
+            return new HubspotContactPage(results, after == null ? null
+                    : new HubspotContactPage.Paging(new HubspotContactPage.Next(after, null)));
+        }
+
+        @Test
+        @DisplayName("shouldFollowPagingCursor_WhenHubspotReturnsNextAfter")
+        void shouldFollowPagingCursor_WhenHubspotReturnsNextAfter() {
+            when(authenticationService.getAuthenticated()).thenReturn(mockUser);
+            when(oauthService.getAccessTokenByUserId(1L)).thenReturn("token");
+            when(rateLimiterRegistry.rateLimiter("hubspotRateLimiter")).thenReturn(RateLimiter.ofDefaults("hubspotRateLimiter"));
+            when(distributedRateLimiter.acquirePermission("hubspotRateLimiter")).thenReturn(true);
+            when(hubspotApiHelper.executeGetJsonCall(eq("/crm/v3/objects/contacts?limit=2"), any(), eq("token"), any()))
+                    .thenAnswer(leader(Mono.just(page("c2", "1", "2"))));
+            when(hubspotApiHelper.executeGetJsonCall(eq("/crm/v3/objects/contacts?limit=2&after=c2"), any(), eq("token"), any()))
+                    .thenAnswer(leader(Mono.just(page(null, "3"))));
+
+            StepVerifier.create(contactService.streamContacts(2).map(HubspotContact::id))
+                    .expectNext("1", "2", "3")
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("shouldWaitForPermit_WhenRateLimiterIsExhausted")
+        void shouldWaitForPermit_WhenRateLimiterIsExhausted() {
+            RateLimiter rateLimiter = RateLimiter.of("hubspotRateLimiter", RateLimiterConfig.custom()
+                    .limitRefreshPeriod(Duration.ofMillis(50))
+                    .build());
+            when(distributedRateLimiter.acquirePermission("hubspotRateLimiter")).thenReturn(true, false, false, true);
+            when(authenticationService.getAuthenticated()).thenReturn(mockUser);
+            when(oauthService.getAccessTokenByUserId(1L)).thenReturn("token");
+            when(rateLimiterRegistry.rateLimiter("hubspotRateLimiter")).thenReturn(rateLimiter);
+            when(hubspotApiHelper.executeGetJsonCall(eq("/crm/v3/objects/contacts?limit=100"), any(), eq("token"), any()))
+                    .thenAnswer(leader(Mono.just(page("next", "1"))));
+            when(hubspotApiHelper.executeGetJsonCall(eq("/crm/v3/objects/contacts?limit=100&after=next"), any(), eq("token"), any()))
+                    .thenAnswer(leader(Mono.just(page(null, "2"))));
+
+            StepVerifier.create(contactService.streamContacts(500).map(HubspotContact::id))
+                    .expectNext("1", "2")
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("shouldFailWithoutCallingHubspot_WhenAccessTokenIsMissing")
+        void shouldFailWithoutCallingHubspot_WhenAccessTokenIsMissing() {
+            when(authenticationService.getAuthenticated()).thenReturn(mockUser);
+            when(oauthService.getAccessTokenByUserId(1L)).thenReturn(null);
+
+            StepVerifier.create(contactService.streamContacts(100))
+                    .expectError(IllegalStateException.class)
+                    .verify();
+
+            verify(hubspotApiHelper, never()).executeGetJsonCall(anyString(), any(), anyString(), any());
+        }
+    }
+}
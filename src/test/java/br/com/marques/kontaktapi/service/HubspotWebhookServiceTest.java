@@ -0,0 +1,126 @@
+package br.com.marques.kontaktapi.service;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventCursor;
+import br.com.marques.kontaktapi.domain.dto.generic.CursorPage;
+import br.com.marques.kontaktapi.domain.dto.generic.SlicePage;
+import br.com.marques.kontaktapi.domain.entity.ContactCreationEventEntity;
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventPartitionRepository;
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventRepository;
+import br.com.marques.kontaktapi.service.webhook.WebhookEventWriter;
+import br.com.marques.kontaktapi.service.webhook.WebhookIngestionQueue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HubspotWebhookService Tests")
+class HubspotWebhookServiceTest {
+    @Mock
+    private ContactCreationEventRepository repository;
+    @Mock
+    private ContactCreationEventPartitionRepository partitionRepository;
+    @Mock
+    private WebhookEventWriter eventWriter;
+    @Mock
+    private ObjectProvider<WebhookIngestionQueue> ingestionQueue;
+    @InjectMocks
+    private HubspotWebhookService hubspotWebhookService;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private static List<ContactCreationEventEntity> entities(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ContactCreationEventEntity.builder()
+                        .id(100L - i)
+                        .eventId(1000L - i)
+                        .occurredAt(NOW.minusMinutes(i))
+                        .build())
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("listEventsAfter")
+    class ListEventsAfterTests {
+
+        @Test
+        @DisplayName("shouldReturnLatestEventsWithCursor_WhenMoreRowsExist")
+        void shouldReturnLatestEventsWithCursor_WhenMoreRowsExist() {
+            when(repository.findLatest(3)).thenReturn(entities(3));
+
+            CursorPage<ContactCreationEventEntity> page = hubspotWebhookService.listEventsAfter(null, 2);
+
+            assertEquals(2, page.content().size());
+            assertTrue(page.hasNext());
+            assertEquals(new ContactCreationEventCursor(NOW.minusMinutes(1), 99L),
+                    ContactCreationEventCursor.decode(page.nextCursor()));
+        }
+
+        @Test
+        @DisplayName("shouldSeekPastCursor_WhenCursorIsProvided")
+        void shouldSeekPastCursor_WhenCursorIsProvided() {
+            String cursor = new ContactCreationEventCursor(NOW, 100L).encode();
+            when(repository.findOlderThan(NOW, 100L, 11)).thenReturn(entities(4));
+
+            CursorPage<ContactCreationEventEntity> page = hubspotWebhookService.listEventsAfter(cursor, 10);
+
+            assertEquals(4, page.content().size());
+            assertFalse(page.hasNext());
+            verify(repository, never()).count();
+        }
+
+        @Test
+        @DisplayName("shouldThrowIllegalArgumentException_WhenCursorIsMalformed")
+        void shouldThrowIllegalArgumentException_WhenCursorIsMalformed() {
+            assertThrows(IllegalArgumentException.class, () -> hubspotWebhookService.listEventsAfter("not-a-cursor", 10));
+        }
+    }
+
+    @Nested
+    @DisplayName("listEventsSlice")
+    class ListEventsSliceTests {
+
+        @Test
+        @DisplayName("shouldReturnSliceWithoutEstimate_WhenEstimateIsNotRequested")
+        void shouldReturnSliceWithoutEstimate_WhenEstimateIsNotRequested() {
+            PageRequest pageable = PageRequest.of(0, 2, HubspotWebhookService.NEWEST_FIRST);
+            when(repository.findAllBy(pageable)).thenReturn(new SliceImpl<>(entities(2), pageable, true));
+
+            SlicePage<ContactCreationEventEntity> slice = hubspotWebhookService.listEventsSlice(0, 2, false);
+
+            assertEquals(2, slice.content().size());
+            assertTrue(slice.hasNext());
+            assertNull(slice.estimatedTotal());
+            verify(repository, never()).count();
+            verifyNoInteractions(partitionRepository);
+        }
+
+        @Test
+        @DisplayName("shouldIncludePlannerEstimate_WhenEstimateIsRequested")
+        void shouldIncludePlannerEstimate_WhenEstimateIsRequested() {
+            PageRequest pageable = PageRequest.of(1, 10, HubspotWebhookService.NEWEST_FIRST);
+            when(repository.findAllBy(pageable)).thenReturn(new SliceImpl<>(entities(3), pageable, false));
+            when(partitionRepository.estimateRowCount()).thenReturn(12_345L);
+
+            SlicePage<ContactCreationEventEntity> slice = hubspotWebhookService.listEventsSlice(1, 10, true);
+
+            assertFalse(slice.hasNext());
+            assertEquals(1, slice.pageNumber());
+            assertEquals(12_345L, slice.estimatedTotal());
+            verify(repository, never()).count();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.marques.kontaktapi.service;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventCursor;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventFilter;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventView;
+import br.com.marques.kontaktapi.domain.dto.generic.CursorPage;
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookEventQueryService Tests")
+class WebhookEventQueryServiceTest {
+    @Mock
+    private ContactCreationEventRepository repository;
+    @InjectMocks
+    private WebhookEventQueryService webhookEventQueryService;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private static List<ContactCreationEventView> views(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ContactCreationEventView(100L - i, 1000L - i, 1L, 42L, 7L,
+                        NOW.minusMinutes(i), "contact.creation", 0, 500L + i, "CREATED", "CRM"))
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("search")
+    class SearchTests {
+
+        @Test
+        @DisplayName("shouldPassFilterAndReturnCursor_WhenMoreRowsExist")
+        void shouldPassFilterAndReturnCursor_WhenMoreRowsExist() {
+            ContactCreationEventFilter filter = new ContactCreationEventFilter(42L, null, "contact.creation", null, null, null);
+            when(repository.findViews(filter, null, 3)).thenReturn(views(3));
+
+            CursorPage<ContactCreationEventView> page = webhookEventQueryService.search(filter, null, 2);
+
+            assertEquals(2, page.content().size());
+            assertEquals(new ContactCreationEventCursor(NOW.minusMinutes(1), 99L),
+                    ContactCreationEventCursor.decode(page.nextCursor()));
+        }
+
+        @Test
+        @DisplayName("shouldSeekPastCursor_WhenCursorIsProvided")
+        void shouldSeekPastCursor_WhenCursorIsProvided() {
+            ContactCreationEventCursor cursor = new ContactCreationEventCursor(NOW, 100L);
+            when(repository.findViews(ContactCreationEventFilter.empty(), cursor, 11)).thenReturn(views(1));
+
+            CursorPage<ContactCreationEventView> page = webhookEventQueryService.search(null, cursor.encode(), 10);
+
+            assertEquals(1, page.content().size());
+            assertFalse(page.hasNext());
+        }
+
+        @Test
+        @DisplayName("shouldThrowIllegalArgumentException_WhenRangeIsInverted")
+        void shouldThrowIllegalArgumentException_WhenRangeIsInverted() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new ContactCreationEventFilter(null, null, null, null, NOW, NOW.minusDays(1)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new ContactCreationEventFilter(null, null, null, null, NOW, NOW));
+        }
+
+        @Test
+        @DisplayName("shouldThrowIllegalArgumentException_WhenSizeIsNotPositive")
+        void shouldThrowIllegalArgumentException_WhenSizeIsNotPositive() {
+            assertThrows(IllegalArgumentException.class, () -> webhookEventQueryService.search(null, null, 0));
+            verify(repository, never()).findViews(any(), any(), anyInt());
+        }
+    }
+}
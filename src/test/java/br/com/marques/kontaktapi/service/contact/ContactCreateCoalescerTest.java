@@ -0,0 +1,194 @@
+package br.com.marques.kontaktapi.service.contact;
+
+import br.com.marques.kontaktapi.config.hubspot.HubspotApiHelper;
+import br.com.marques.kontaktapi.config.resilience.DistributedRateLimiter;
+import br.com.marques.kontaktapi.domain.dto.hubspot.HubspotBatchError;
+import br.com.marques.kontaktapi.domain.dto.hubspot.HubspotBatchResponse;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContactCreateCoalescer Tests")
+class ContactCreateCoalescerTest {
+
+    private static final String TOKEN = "token";
+
+    @Mock
+    private HubspotApiHelper hubspotApiHelper;
+
+    private ContactCreateCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (coalescer != null) coalescer.stop();
+    }
+
+    private ContactCreateCoalescer coalescer(RateLimiterRegistry rateLimiterRegistry, long windowMs, int maxBatchSize) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DistributedRateLimiter localOnly = new DistributedRateLimiter(null, rateLimiterRegistry, meterRegistry,
+                false, "app", 5, 1_000, 1_000);
+        coalescer = new ContactCreateCoalescer(hubspotApiHelper, localOnly, rateLimiterRegistry,
+                CircuitBreakerRegistry.ofDefaults(), meterRegistry, windowMs, maxBatchSize);
+        return coalescer;
+    }
+
+    private ContactCreateCoalescer coalescer(long windowMs, int maxBatchSize) {
+        return coalescer(RateLimiterRegistry.ofDefaults(), windowMs, maxBatchSize);
+    }
+
+    private static Map<String, Object> input(String email) {
+        return Map.of("properties", Map.of("email", email));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> sentInputs(int calls) {
+        ArgumentCaptor<Object> body = ArgumentCaptor.forClass(Object.class);
+        verify(hubspotApiHelper, timeout(1000).times(calls)).executePostJsonCall(
+                eq(ContactCreateCoalescer.BATCH_CREATE_ENDPOINT), body.capture(), eq(HubspotBatchResponse.class), eq(TOKEN));
+        List<Map<String, Object>> inputs = new ArrayList<>();
+        body.getAllValues().forEach(b -> inputs.addAll((List<Map<String, Object>>) ((Map<String, Object>) b).get("inputs")));
+        return inputs;
+    }
+
+    private static Throwable failureOf(CompletableFuture<Void> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        return e.getCause();
+    }
+
+    @Nested
+    @DisplayName("submit")
+    class SubmitTests {
+
+        @Test
+        @DisplayName("shouldSendOneBatch_WhenMaxBatchSizeIsReached")
+        void shouldSendOneBatch_WhenMaxBatchSizeIsReached() throws Exception {
+            when(hubspotApiHelper.executePostJsonCall(any(), any(), eq(HubspotBatchResponse.class), any()))
+                    .thenReturn(Mono.just(new HubspotBatchResponse("COMPLETE", List.of(), null)));
+            ContactCreateCoalescer coalescer = coalescer(60_000, 3);
+
+            List<CompletableFuture<Void>> results = List.of(
+                    coalescer.submit(TOKEN, input("a@example.com")),
+                    coalescer.submit(TOKEN, input("b@example.com")),
+                    coalescer.submit(TOKEN, input("c@example.com")));
+
+            for (CompletableFuture<Void> result : results) assertNull(result.get(1, TimeUnit.SECONDS));
+            List<Map<String, Object>> inputs = sentInputs(1);
+            assertEquals(3, inputs.size());
+            assertEquals("0", inputs.get(0).get(ContactCreateCoalescer.TRACE_ID));
+            assertEquals("2", inputs.get(2).get(ContactCreateCoalescer.TRACE_ID));
+        }
+
+        @Test
+        @DisplayName("shouldFlushPartialBatch_WhenWindowElapses")
+        void shouldFlushPartialBatch_WhenWindowElapses() throws Exception {
+            when(hubspotApiHelper.executePostJsonCall(any(), any(), eq(HubspotBatchResponse.class), any()))
+                    .thenReturn(Mono.just(new HubspotBatchResponse("COMPLETE", List.of(), null)));
+            ContactCreateCoalescer coalescer = coalescer(20, 100);
+
+            CompletableFuture<Void> first = coalescer.submit(TOKEN, input("a@example.com"));
+            CompletableFuture<Void> second = coalescer.submit(TOKEN, input("b@example.com"));
+
+            assertNull(first.get(1, TimeUnit.SECONDS));
+            assertNull(second.get(1, TimeUnit.SECONDS));
+            assertEquals(2, sentInputs(1).size());
+        }
+
+        @Test
+        @DisplayName("shouldFailOnlyRejectedItem_WhenBatchReportsItemError")
+        void shouldFailOnlyRejectedItem_WhenBatchReportsItemError() throws Exception {
+            HubspotBatchError error = new HubspotBatchError("error", "VALIDATION_ERROR", "Invalid email",
+                    Map.of(ContactCreateCoalescer.TRACE_ID, List.of("1")));
+            when(hubspotApiHelper.executePostJsonCall(any(), any(), eq(HubspotBatchResponse.class), any()))
+                    .thenReturn(Mono.just(new HubspotBatchResponse("COMPLETE", List.of(), List.of(error))));
+            ContactCreateCoalescer coalescer = coalescer(60_000, 2);
+
+            CompletableFuture<Void> good = coalescer.submit(TOKEN, input("a@example.com"));
+            CompletableFuture<Void> bad = coalescer.submit(TOKEN, input("not-an-email"));
+
+            assertNull(good.get(1, TimeUnit.SECONDS));
+            assertTrue(failureOf(bad).getMessage().contains("Invalid email"));
+        }
+
+        @Test
+        @DisplayName("shouldBisectBatch_WhenHubspotRejectsWholeBatch")
+        void shouldBisectBatch_WhenHubspotRejectsWholeBatch() throws Exception {
+            WebClientResponseException conflict = WebClientResponseException.create(
+                    HttpStatus.CONFLICT.value(), "Conflict", null, null, null);
+            when(hubspotApiHelper.executePostJsonCall(any(), any(), eq(HubspotBatchResponse.class), any()))
+                    .thenReturn(Mono.error(conflict))
+                    .thenReturn(Mono.just(new HubspotBatchResponse("COMPLETE", List.of(), null)))
+                    .thenReturn(Mono.error(conflict));
+            ContactCreateCoalescer coalescer = coalescer(60_000, 2);
+
+            CompletableFuture<Void> created = coalescer.submit(TOKEN, input("new@example.com"));
+            CompletableFuture<Void> duplicate = coalescer.submit(TOKEN, input("existing@example.com"));
+
+            assertNull(created.get(1, TimeUnit.SECONDS));
+            assertSame(conflict, failureOf(duplicate));
+            assertEquals(4, sentInputs(3).size());
+        }
+
+        @Test
+        @DisplayName("shouldFailWholeBatchWithoutBisecting_WhenHubspotAnswers429")
+        void shouldFailWholeBatchWithoutBisecting_WhenHubspotAnswers429() {
+            WebClientResponseException tooManyRequests = WebClientResponseException.create(
+                    HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", null, null, null);
+            when(hubspotApiHelper.executePostJsonCall(any(), any(), eq(HubspotBatchResponse.class), any()))
+                    .thenReturn(Mono.error(tooManyRequests));
+            ContactCreateCoalescer coalescer = coalescer(60_000, 2);
+
+            CompletableFuture<Void> first = coalescer.submit(TOKEN, input("a@example.com"));
+            CompletableFuture<Void> second = coalescer.submit(TOKEN, input("b@example.com"));
+
+            assertSame(tooManyRequests, failureOf(first));
+            assertSame(tooManyRequests, failureOf(second));
+            assertEquals(2, sentInputs(1).size());
+        }
+
+        @Test
+        @DisplayName("shouldFailWholeBatchWithoutCalling_WhenRateLimiterDenies")
+        void shouldFailWholeBatchWithoutCalling_WhenRateLimiterDenies() {
+            RateLimiterRegistry exhausted = RateLimiterRegistry.of(RateLimiterConfig.custom()
+                    .limitForPeriod(1)
+                    .limitRefreshPeriod(Duration.ofHours(1))
+                    .timeoutDuration(Duration.ZERO)
+                    .build());
+            exhausted.rateLimiter("hubspotRateLimiter").acquirePermission();
+            ContactCreateCoalescer coalescer = coalescer(exhausted, 60_000, 2);
+
+            CompletableFuture<Void> first = coalescer.submit(TOKEN, input("a@example.com"));
+            CompletableFuture<Void> second = coalescer.submit(TOKEN, input("b@example.com"));
+
+            assertInstanceOf(RequestNotPermitted.class, failureOf(first));
+            assertInstanceOf(RequestNotPermitted.class, failureOf(second));
+            verifyNoInteractions(hubspotApiHelper);
+        }
+    }
+}
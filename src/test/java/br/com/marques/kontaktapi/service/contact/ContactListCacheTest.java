@@ -0,0 +1,213 @@
+package br.com.marques.kontaktapi.service.contact;
+
+import br.com.marques.kontaktapi.config.hubspot.HubspotApiHelper;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContactListCache Tests")
+class ContactListCacheTest {
+
+    private static final String QUERY = "/crm/v3/objects/contacts";
+
+    @Mock
+    private HubspotApiHelper hubspotApiHelper;
+
+    private MutableClock clock;
+    private ContactListCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        cache = new ContactListCache(hubspotApiHelper, new SimpleMeterRegistry(), clock, 1_000, 10_000, 2);
+        loads = new AtomicInteger();
+        lenient().when(hubspotApiHelper.fetchAccessTokenInfo(anyString()))
+                .thenReturn(Mono.just(Map.<String, Object>of("hub_id", 42)));
+    }
+
+    private Supplier<Mono<Map<String, Object>>> loader() {
+        return () -> Mono.fromSupplier(() -> Map.of("load", loads.incrementAndGet()));
+    }
+
+    private Object list(Long userId) {
+        return cache.get(userId, "token-" + userId, QUERY, loader()).block().get("load");
+    }
+
+    private static ContactCreationEventRequest event(Long portalId) {
+        return new ContactCreationEventRequest(1L, 1L, portalId, 1L, 0L, "contact.creation", 0, 7L, "NEW", "CRM");
+    }
+
+    @Nested
+    @DisplayName("get")
+    class GetTests {
+
+        @Test
+        @DisplayName("shouldServeCachedValue_WhenEntryIsFresh")
+        void shouldServeCachedValue_WhenEntryIsFresh() {
+            assertEquals(1, list(1L));
+            clock.advance(Duration.ofMillis(900));
+
+            assertEquals(1, list(1L));
+            assertEquals(1, loads.get());
+        }
+
+        @Test
+        @DisplayName("shouldServeStaleValueAndRefresh_WhenEntryIsStale")
+        void shouldServeStaleValueAndRefresh_WhenEntryIsStale() {
+            list(1L);
+            clock.advance(Duration.ofSeconds(5));
+
+            assertEquals(1, list(1L));
+            assertEquals(2, loads.get());
+            assertEquals(2, list(1L));
+        }
+
+        @Test
+        @DisplayName("shouldLoadAgain_WhenEntryIsExpired")
+        void shouldLoadAgain_WhenEntryIsExpired() {
+            list(1L);
+            clock.advance(Duration.ofSeconds(11));
+
+            assertEquals(2, list(1L));
+        }
+
+        @Test
+        @DisplayName("shouldShareOneLoad_WhenMissesOverlap")
+        void shouldShareOneLoad_WhenMissesOverlap() {
+            Sinks.One<Map<String, Object>> response = Sinks.one();
+            AtomicInteger calls = new AtomicInteger();
+            Supplier<Mono<Map<String, Object>>> slowLoader = () -> {
+                calls.incrementAndGet();
+                return response.asMono();
+            };
+
+            Mono<Map<String, Object>> first = cache.get(1L, "token", QUERY, slowLoader);
+            Mono<Map<String, Object>> second = cache.get(1L, "token", QUERY, slowLoader);
+            first.subscribe();
+            second.subscribe();
+            response.tryEmitValue(Map.of("load", 1));
+
+            assertEquals(Map.of("load", 1), second.block());
+            assertEquals(1, calls.get());
+        }
+
+        @Test
+        @DisplayName("shouldEvictLeastRecentlyUsed_WhenMaxEntriesIsExceeded")
+        void shouldEvictLeastRecentlyUsed_WhenMaxEntriesIsExceeded() {
+            list(1L);
+            list(2L);
+            list(1L);
+            list(3L);
+
+            assertEquals(1, list(1L));
+            assertEquals(4, list(2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidation")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("shouldReload_WhenUserIsInvalidated")
+        void shouldReload_WhenUserIsInvalidated() {
+            list(1L);
+            cache.invalidateUser(1L);
+
+            assertEquals(2, list(1L));
+        }
+
+        @Test
+        @DisplayName("shouldInvalidateOnlyPortalUsers_WhenContactEventArrives")
+        void shouldInvalidateOnlyPortalUsers_WhenContactEventArrives() {
+            lenient().when(hubspotApiHelper.fetchAccessTokenInfo("token-2"))
+                    .thenReturn(Mono.just(Map.<String, Object>of("hub_id", 99)));
+            list(1L);
+            list(2L);
+
+            cache.handle(event(42L));
+
+            assertEquals(3, list(1L));
+            assertEquals(2, list(2L));
+        }
+
+        @Test
+        @DisplayName("shouldDiscardLoadResult_WhenInvalidatedWhileLoading")
+        void shouldDiscardLoadResult_WhenInvalidatedWhileLoading() {
+            Sinks.One<Map<String, Object>> response = Sinks.one();
+            Mono<Map<String, Object>> pending = cache.get(1L, "token", QUERY, response::asMono);
+            pending.subscribe();
+
+            cache.invalidateUser(1L);
+            response.tryEmitValue(Map.of("load", 0));
+
+            assertEquals(1, list(1L));
+        }
+
+        @Test
+        @DisplayName("shouldKeepNewLoad_WhenInvalidatedLoadFinishesLater")
+        void shouldKeepNewLoad_WhenInvalidatedLoadFinishesLater() {
+            Sinks.One<Map<String, Object>> stale = Sinks.one();
+            Sinks.One<Map<String, Object>> fresh = Sinks.one();
+            AtomicInteger calls = new AtomicInteger();
+            Supplier<Mono<Map<String, Object>>> slowLoader = () -> calls.incrementAndGet() == 1 ? stale.asMono() : fresh.asMono();
+
+            cache.get(1L, "token", QUERY, slowLoader).subscribe();
+            cache.invalidateUser(1L);
+            Mono<Map<String, Object>> reload = cache.get(1L, "token", QUERY, slowLoader);
+            reload.subscribe();
+            stale.tryEmitValue(Map.of("load", 0));
+            Mono<Map<String, Object>> joined = cache.get(1L, "token", QUERY, slowLoader);
+            fresh.tryEmitValue(Map.of("load", 1));
+
+            assertEquals(Map.of("load", 1), joined.block());
+            assertEquals(2, calls.get());
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2026-01-01T00:00:00Z");
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EventIdBloomFilter Tests")
+class EventIdBloomFilterTest {
+
+    @Nested
+    @DisplayName("mightContain")
+    class MightContainTests {
+
+        @Test
+        @DisplayName("shouldContainEveryInsertedId_WhenWithinCapacity")
+        void shouldContainEveryInsertedId_WhenWithinCapacity() {
+            EventIdBloomFilter filter = new EventIdBloomFilter(10_000, 0.01);
+            for (long id = 0; id < 5_000; id++) filter.put(id);
+
+            for (long id = 0; id < 5_000; id++) assertTrue(filter.mightContain(id));
+        }
+
+        @Test
+        @DisplayName("shouldKeepFalsePositiveRateNearTarget_WhenQueryingUnseenIds")
+        void shouldKeepFalsePositiveRateNearTarget_WhenQueryingUnseenIds() {
+            EventIdBloomFilter filter = new EventIdBloomFilter(10_000, 0.01);
+            for (long id = 0; id < 10_000; id++) filter.put(id);
+
+            long falsePositives = 0;
+            for (long id = 1_000_000; id < 1_100_000; id++) {
+                if (filter.mightContain(id)) falsePositives++;
+            }
+            assertTrue(falsePositives < 3_000, "false positives: " + falsePositives);
+        }
+
+        @Test
+        @DisplayName("shouldForgetOldestGeneration_WhenCapacityIsExceededTwice")
+        void shouldForgetOldestGeneration_WhenCapacityIsExceededTwice() {
+            EventIdBloomFilter filter = new EventIdBloomFilter(100, 0.001);
+            for (long id = 0; id < 100; id++) filter.put(id);
+            for (long id = 100; id < 200; id++) filter.put(id);
+
+            assertTrue(filter.mightContain(150));
+            long remembered = 0;
+            for (long id = 0; id < 100; id++) {
+                if (filter.mightContain(id)) remembered++;
+            }
+            assertTrue(remembered < 10, "remembered: " + remembered);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventPartitionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventPartitionMaintenanceJob Tests")
+class EventPartitionMaintenanceJobTest {
+    @Mock
+    private ContactCreationEventPartitionRepository partitionRepository;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-05-15T10:00:00Z"), ZoneOffset.UTC);
+
+    private EventPartitionMaintenanceJob job(PartitionRetentionAction action) {
+        return new EventPartitionMaintenanceJob(partitionRepository, clock, 1, 2, action);
+    }
+
+    @Nested
+    @DisplayName("maintainPartitions")
+    class MaintainPartitionsTests {
+
+        @Test
+        @DisplayName("shouldCreateMissingCurrentAndFuturePartitions_WhenTableIsPartitioned")
+        void shouldCreateMissingCurrentAndFuturePartitions_WhenTableIsPartitioned() {
+            when(partitionRepository.isPartitioned()).thenReturn(true);
+            when(partitionRepository.findPartitionNames())
+                    .thenReturn(List.of("contact_creation_events_default", "contact_creation_events_p202405"));
+
+            job(PartitionRetentionAction.DROP).maintainPartitions();
+
+            verify(partitionRepository).createPartition("contact_creation_events_p202406",
+                    LocalDate.of(2024, 6, 1), LocalDate.of(2024, 7, 1));
+            verify(partitionRepository, times(1)).createPartition(anyString(), any(), any());
+            verify(partitionRepository, never()).detachPartition(anyString());
+        }
+
+        @Test
+        @DisplayName("shouldDropExpiredPartitions_WhenOlderThanRetention")
+        void shouldDropExpiredPartitions_WhenOlderThanRetention() {
+            when(partitionRepository.isPartitioned()).thenReturn(true);
+            when(partitionRepository.findPartitionNames()).thenReturn(List.of(
+                    "contact_creation_events_default",
+                    "contact_creation_events_p202402",
+                    "contact_creation_events_p202403",
+                    "contact_creation_events_p202405",
+                    "contact_creation_events_p202406"));
+
+            job(PartitionRetentionAction.DROP).maintainPartitions();
+
+            verify(partitionRepository).detachPartition("contact_creation_events_p202402");
+            verify(partitionRepository).dropPartition("contact_creation_events_p202402");
+            verify(partitionRepository, never()).detachPartition("contact_creation_events_p202403");
+            verify(partitionRepository, never()).detachPartition("contact_creation_events_default");
+            verify(partitionRepository).deleteDefaultPartitionRowsBefore(LocalDate.of(2024, 3, 1));
+        }
+
+        @Test
+        @DisplayName("shouldOnlyDetachExpiredPartitions_WhenRetentionActionIsDetach")
+        void shouldOnlyDetachExpiredPartitions_WhenRetentionActionIsDetach() {
+            when(partitionRepository.isPartitioned()).thenReturn(true);
+            when(partitionRepository.findPartitionNames()).thenReturn(List.of(
+                    "contact_creation_events_p202401",
+                    "contact_creation_events_p202405",
+                    "contact_creation_events_p202406"));
+
+            job(PartitionRetentionAction.DETACH).maintainPartitions();
+
+            verify(partitionRepository).detachPartition("contact_creation_events_p202401");
+            verify(partitionRepository, never()).dropPartition(anyString());
+            verify(partitionRepository, never()).archiveDefaultPartitionRowsBefore(any());
+        }
+
+        @Test
+        @DisplayName("shouldArchiveExpiredDefaultPartitionRows_WhenRetentionActionIsDetach")
+        void shouldArchiveExpiredDefaultPartitionRows_WhenRetentionActionIsDetach() {
+            when(partitionRepository.isPartitioned()).thenReturn(true);
+            when(partitionRepository.findPartitionNames()).thenReturn(List.of(
+                    "contact_creation_events_default",
+                    "contact_creation_events_p202405",
+                    "contact_creation_events_p202406"));
+
+            job(PartitionRetentionAction.DETACH).maintainPartitions();
+
+            verify(partitionRepository).archiveDefaultPartitionRowsBefore(LocalDate.of(2024, 3, 1));
+            verify(partitionRepository, never()).deleteDefaultPartitionRowsBefore(any());
+        }
+
+        @Test
+        @DisplayName("shouldSkipMaintenance_WhenTableIsNotPartitioned")
+        void shouldSkipMaintenance_WhenTableIsNotPartitioned() {
+            when(partitionRepository.isPartitioned()).thenReturn(false);
+
+            job(PartitionRetentionAction.DROP).maintainPartitions();
+
+            verify(partitionRepository, never()).findPartitionNames();
+            verify(partitionRepository, never()).createPartition(anyString(), any(), any());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import br.com.marques.kontaktapi.domain.dto.contact.EventRollupBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventRollupStore Tests")
+class EventRollupStoreTest {
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private StringRedisConnection connection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventRollupStore rollupStore;
+
+    private static final LocalDateTime OCCURRED_AT = LocalDateTime.of(2024, 5, 1, 12, 34, 56);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rollupStore = new EventRollupStore(redisTemplate, meterRegistry, true);
+    }
+
+    private static ContactCreationEventRequest event(long eventId, long objectId) {
+        return new ContactCreationEventRequest(eventId, 1L, 42L, 20L, OCCURRED_AT.toInstant(ZoneOffset.UTC).toEpochMilli(),
+                "contact.creation", 0, objectId, "CREATED", "CRM");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runPipelinedCallback() {
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+        callback.getValue().doInRedis(connection);
+    }
+
+    @Nested
+    @DisplayName("recordAfterCommit")
+    class RecordTests {
+
+        @Test
+        @DisplayName("shouldIncrementEachGranularityOnce_WhenEventsShareBuckets")
+        void shouldIncrementEachGranularityOnce_WhenEventsShareBuckets() {
+            rollupStore.recordAfterCommit(List.of(event(1, 100), event(2, 100), event(3, 101)));
+
+            runPipelinedCallback();
+            verify(connection).incrBy("rollup:contact-events:count:42:minute:202405011234", 3L);
+            verify(connection).incrBy("rollup:contact-events:count:42:hour:2024050112", 3L);
+            verify(connection).incrBy("rollup:contact-events:count:42:day:20240501", 3L);
+            verify(connection).pfAdd("rollup:contact-events:objects:42:day:20240501", "100", "101");
+            verify(connection).expire("rollup:contact-events:count:42:minute:202405011234", RollupGranularity.MINUTE.retention().toSeconds());
+        }
+
+        @Test
+        @DisplayName("shouldCountFailureWithoutThrowing_WhenRedisIsUnavailable")
+        void shouldCountFailureWithoutThrowing_WhenRedisIsUnavailable() {
+            when(redisTemplate.executePipelined(any(RedisCallback.class))).thenThrow(new IllegalStateException("down"));
+
+            assertDoesNotThrow(() -> rollupStore.recordAfterCommit(List.of(event(1, 100))));
+            assertEquals(1, meterRegistry.get("webhook.rollups.failures").counter().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("read")
+    class ReadTests {
+
+        @Test
+        @DisplayName("shouldReturnOneRowPerBucket_WhenRangeSpansSeveralBuckets")
+        void shouldReturnOneRowPerBucket_WhenRangeSpansSeveralBuckets() {
+            when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .thenReturn(Arrays.asList("5", 4L, null, 0L, "2", 1L));
+
+            List<EventRollupBucket> buckets = rollupStore.read(42L, RollupGranularity.HOUR,
+                    OCCURRED_AT, OCCURRED_AT.plusHours(2));
+
+            assertEquals(List.of(
+                    new EventRollupBucket(LocalDateTime.of(2024, 5, 1, 12, 0), 5, 4),
+                    new EventRollupBucket(LocalDateTime.of(2024, 5, 1, 13, 0), 0, 0),
+                    new EventRollupBucket(LocalDateTime.of(2024, 5, 1, 14, 0), 2, 1)), buckets);
+        }
+
+        @Test
+        @DisplayName("shouldThrowIllegalArgumentException_WhenRangeHasTooManyBuckets")
+        void shouldThrowIllegalArgumentException_WhenRangeHasTooManyBuckets() {
+            assertThrows(IllegalArgumentException.class, () -> rollupStore.read(42L, RollupGranularity.MINUTE,
+                    OCCURRED_AT, OCCURRED_AT.plusDays(2)));
+            verifyNoInteractions(redisTemplate);
+        }
+    }
+}
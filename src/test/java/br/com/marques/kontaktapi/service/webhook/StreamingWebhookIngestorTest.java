@@ -0,0 +1,159 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.config.hubspot.HmacValidationAspect;
+import br.com.marques.kontaktapi.config.hubspot.HubspotSignatureVerifier;
+import br.com.marques.kontaktapi.config.hubspot.WebhookReplayGuard;
+import br.com.marques.kontaktapi.controller.exception.GenericException;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import br.com.marques.kontaktapi.domain.entity.ContactCreationEventEntity;
+import br.com.marques.kontaktapi.service.gateway.WebhookServiceGateway;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreamingWebhookIngestor Tests")
+class StreamingWebhookIngestorTest {
+    private static final String SECRET = "test-secret";
+    private static final String URI = "/api/hubspot/webhook/contact/stream";
+    private static final String HOST = "kontakt.example.com";
+    private static final String TIMESTAMP = "1700000000000";
+
+    @Mock
+    private WebhookServiceGateway<ContactCreationEventEntity, ContactCreationEventRequest> webhookService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private WebhookReplayGuard replayGuard;
+
+    private StreamingWebhookIngestor ingestor;
+
+    @BeforeEach
+    void setUp() {
+        ingestor = ingestor(1024);
+        lenient().when(replayGuard.isFresh(TIMESTAMP)).thenReturn(true);
+        lenient().when(replayGuard.firstDelivery(anyString(), eq(TIMESTAMP))).thenReturn(true);
+    }
+
+    private StreamingWebhookIngestor ingestor(long maxBytes) {
+        return new StreamingWebhookIngestor(new ObjectMapper(), new HubspotSignatureVerifier(SECRET), replayGuard, webhookService,
+                transactionManager, 2, maxBytes, 30_000, 30);
+    }
+
+    private static String body(int events) {
+        return IntStream.range(0, events)
+                .mapToObj(i -> "{\"eventId\":" + i + ",\"portalId\":10,\"occurredAt\":1700000000000,"
+                        + "\"subscriptionType\":\"contact.creation\",\"attemptNumber\":0,\"objectId\":" + (100 + i) + "}")
+                .collect(Collectors.joining(",", "[", "]\n"));
+    }
+
+    private static MockHttpServletRequest request(String body, String signature) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", URI);
+        request.addHeader(HmacValidationAspect.HOST, HOST);
+        request.addHeader(HmacValidationAspect.X_HUB_SPOT_REQUEST_TIMESTAMP, TIMESTAMP);
+        request.addHeader(HmacValidationAspect.X_HUB_SPOT_SIGNATURE_V_3, signature);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static String sign(String body) {
+        return HmacValidationAspect.generateHmac("POST" + HmacValidationAspect.HTTP_PROTOCOL + HOST + URI + body + TIMESTAMP, SECRET);
+    }
+
+    @Nested
+    @DisplayName("ingest")
+    class IngestTests {
+
+        @Test
+        @DisplayName("shouldProcessFixedSizeChunks_WhenSignatureIsValid")
+        @SuppressWarnings("unchecked")
+        void shouldProcessFixedSizeChunks_WhenSignatureIsValid() throws IOException {
+            String body = body(5);
+
+            int received = ingestor.ingest(request(body, sign(body)));
+
+            assertEquals(5, received);
+            ArgumentCaptor<List<ContactCreationEventRequest>> chunks = ArgumentCaptor.forClass(List.class);
+            verify(webhookService, times(3)).process(chunks.capture());
+            assertEquals(List.of(2, 2, 1), chunks.getAllValues().stream().map(List::size).toList());
+            assertEquals(104L, chunks.getAllValues().get(2).get(0).objectId());
+        }
+
+        @Test
+        @DisplayName("shouldRejectDelivery_WhenSignatureDoesNotMatch")
+        void shouldRejectDelivery_WhenSignatureDoesNotMatch() {
+            String body = body(3);
+
+            GenericException exception = assertThrows(GenericException.class,
+                    () -> ingestor.ingest(request(body, sign(body + " "))));
+            assertEquals(HttpStatus.UNAUTHORIZED, exception.getStatusCode());
+            verifyNoInteractions(webhookService, transactionManager);
+        }
+
+        @Test
+        @DisplayName("shouldRejectBeforeReadingBody_WhenTimestampIsStale")
+        void shouldRejectBeforeReadingBody_WhenTimestampIsStale() {
+            String body = body(3);
+            MockHttpServletRequest request = request(body, sign(body));
+            when(replayGuard.isFresh(TIMESTAMP)).thenReturn(false);
+
+            GenericException exception = assertThrows(GenericException.class, () -> ingestor.ingest(request));
+            assertEquals(HttpStatus.UNAUTHORIZED, exception.getStatusCode());
+            verify(replayGuard, never()).firstDelivery(anyString(), anyString());
+            verifyNoInteractions(webhookService);
+        }
+
+        @Test
+        @DisplayName("shouldRejectDelivery_WhenSignatureWasAlreadyDelivered")
+        void shouldRejectDelivery_WhenSignatureWasAlreadyDelivered() {
+            String body = body(3);
+            String signature = sign(body);
+            when(replayGuard.firstDelivery(signature, TIMESTAMP)).thenReturn(false);
+
+            GenericException exception = assertThrows(GenericException.class,
+                    () -> ingestor.ingest(request(body, signature)));
+            assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+            verifyNoInteractions(webhookService);
+        }
+
+        @Test
+        @DisplayName("shouldRejectDelivery_WhenBodyExceedsMaxBytes")
+        void shouldRejectDelivery_WhenBodyExceedsMaxBytes() {
+            String body = body(20);
+
+            GenericException exception = assertThrows(GenericException.class,
+                    () -> ingestor(256).ingest(request(body, sign(body))));
+            assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exception.getStatusCode());
+            verifyNoInteractions(webhookService);
+        }
+
+        @Test
+        @DisplayName("shouldThrowIllegalArgumentException_WhenBodyIsNotAnArray")
+        void shouldThrowIllegalArgumentException_WhenBodyIsNotAnArray() {
+            String body = "{\"eventId\":1}";
+
+            assertThrows(IllegalArgumentException.class, () -> ingestor.ingest(request(body, sign(body))));
+            verifyNoInteractions(webhookService);
+        }
+    }
+}
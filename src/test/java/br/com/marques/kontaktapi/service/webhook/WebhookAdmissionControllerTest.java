@@ -0,0 +1,73 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static br.com.marques.kontaktapi.service.webhook.WebhookAdmissionController.Decision.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WebhookAdmissionController Tests")
+class WebhookAdmissionControllerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private WebhookAdmissionController controller(int maxInFlight, WebhookIngestionMode mode) {
+        return new WebhookAdmissionController(meterRegistry, maxInFlight, 100, mode);
+    }
+
+    @Nested
+    @DisplayName("tryAcquire")
+    class TryAcquireTests {
+
+        @Test
+        @DisplayName("shouldRejectWithTooManyRequests_WhenInFlightLimitIsReached")
+        void shouldRejectWithTooManyRequests_WhenInFlightLimitIsReached() {
+            WebhookAdmissionController controller = controller(2, WebhookIngestionMode.SYNC);
+
+            assertEquals(ADMITTED, controller.tryAcquire());
+            assertEquals(ADMITTED, controller.tryAcquire());
+            assertEquals(TOO_MANY_REQUESTS, controller.tryAcquire());
+            assertEquals(2, controller.inFlight());
+
+            controller.release();
+            assertEquals(ADMITTED, controller.tryAcquire());
+        }
+
+        @Test
+        @DisplayName("shouldShedConcurrentDeliveriesButAdmitProbe_WhenWriteLatencyIsHigh")
+        void shouldShedConcurrentDeliveriesButAdmitProbe_WhenWriteLatencyIsHigh() {
+            WebhookAdmissionController controller = controller(10, WebhookIngestionMode.SYNC);
+            controller.recordWriteLatency(TimeUnit.SECONDS.toNanos(2));
+
+            assertEquals(ADMITTED, controller.tryAcquire());
+            assertEquals(OVERLOADED, controller.tryAcquire());
+            assertEquals(1, meterRegistry.get("webhook.admission.rejected").tag("reason", "write-latency").counter().count());
+        }
+
+        @Test
+        @DisplayName("shouldAdmitAgain_WhenWriteLatencyRecovers")
+        void shouldAdmitAgain_WhenWriteLatencyRecovers() {
+            WebhookAdmissionController controller = controller(10, WebhookIngestionMode.SYNC);
+            controller.recordWriteLatency(TimeUnit.MILLISECONDS.toNanos(400));
+            for (int i = 0; i < 20; i++) controller.recordWriteLatency(TimeUnit.MILLISECONDS.toNanos(5));
+
+            assertEquals(ADMITTED, controller.tryAcquire());
+            assertEquals(ADMITTED, controller.tryAcquire());
+            assertTrue(controller.writeLatencyMs() < 100);
+        }
+
+        @Test
+        @DisplayName("shouldIgnoreWriteLatency_WhenIngestingThroughWriteAheadLog")
+        void shouldIgnoreWriteLatency_WhenIngestingThroughWriteAheadLog() {
+            WebhookAdmissionController controller = controller(10, WebhookIngestionMode.WAL);
+            controller.recordWriteLatency(TimeUnit.SECONDS.toNanos(2));
+
+            assertEquals(ADMITTED, controller.tryAcquire());
+            assertEquals(ADMITTED, controller.tryAcquire());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.controller.exception.GenericException;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WebhookEventBroadcaster Tests")
+class WebhookEventBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static ContactCreationEventRequest event(long eventId, long portalId) {
+        return new ContactCreationEventRequest(eventId, 1L, portalId, 20L, 1_700_000_000_000L,
+                "contact.creation", 0, 100L + eventId, "CREATED", "CRM");
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) Thread.sleep(10);
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        final BlockingQueue<SseEventBuilder> sent = new LinkedBlockingQueue<>();
+        final CountDownLatch unblock = new CountDownLatch(1);
+        volatile boolean blocking;
+        volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (blocking) {
+                try {
+                    unblock.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.add(builder);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    private static String payloadOf(SseEmitter.SseEventBuilder builder) {
+        return builder.build().stream().map(data -> String.valueOf(data.getData())).reduce("", String::concat);
+    }
+
+    @Nested
+    @DisplayName("handle")
+    class HandleTests {
+
+        @Test
+        @DisplayName("shouldDeliverOnlyMatchingPortal_WhenSubscriberFiltersByPortal")
+        void shouldDeliverOnlyMatchingPortal_WhenSubscriberFiltersByPortal() throws InterruptedException {
+            WebhookEventBroadcaster broadcaster = new WebhookEventBroadcaster(meterRegistry, 16, 10, 60_000, 60_000);
+            RecordingEmitter portal42 = new RecordingEmitter();
+            RecordingEmitter everyone = new RecordingEmitter();
+            broadcaster.register(42L, portal42);
+            broadcaster.register(null, everyone);
+
+            broadcaster.handle(event(1, 42));
+            broadcaster.handle(event(2, 7));
+
+            awaitUntil(() -> everyone.sent.size() == 2);
+            assertEquals(1, portal42.sent.size());
+            assertTrue(payloadOf(portal42.sent.peek()).contains("id:1"));
+        }
+
+        @Test
+        @DisplayName("shouldDropSlowSubscriberWithoutBlocking_WhenBufferIsFull")
+        void shouldDropSlowSubscriberWithoutBlocking_WhenBufferIsFull() throws InterruptedException {
+            WebhookEventBroadcaster broadcaster = new WebhookEventBroadcaster(meterRegistry, 2, 10, 60_000, 60_000);
+            RecordingEmitter slow = new RecordingEmitter();
+            slow.blocking = true;
+            broadcaster.register(null, slow);
+
+            for (long i = 0; i < 10; i++) broadcaster.handle(event(i, 42));
+
+            assertEquals(0, broadcaster.subscriberCount());
+            assertEquals(1, meterRegistry.get("webhook.sse.dropped").counter().count());
+            slow.unblock.countDown();
+            awaitUntil(() -> slow.completed);
+        }
+
+        @Test
+        @DisplayName("shouldRejectSubscriber_WhenSubscriberLimitIsReached")
+        void shouldRejectSubscriber_WhenSubscriberLimitIsReached() {
+            WebhookEventBroadcaster broadcaster = new WebhookEventBroadcaster(meterRegistry, 2, 1, 60_000, 60_000);
+            broadcaster.register(null, new RecordingEmitter());
+
+            assertThrows(GenericException.class, () -> broadcaster.register(null, new RecordingEmitter()));
+        }
+
+        @Test
+        @DisplayName("shouldNeverExceedSubscriberLimit_WhenSubscribersConnectConcurrently")
+        void shouldNeverExceedSubscriberLimit_WhenSubscribersConnectConcurrently() throws InterruptedException {
+            WebhookEventBroadcaster broadcaster = new WebhookEventBroadcaster(meterRegistry, 2, 5, 60_000, 60_000);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger accepted = new AtomicInteger();
+            List<Thread> threads = IntStream.range(0, 50).mapToObj(i -> Thread.ofVirtual().start(() -> {
+                try {
+                    start.await();
+                    broadcaster.register(null, new RecordingEmitter());
+                    accepted.incrementAndGet();
+                } catch (GenericException e) {
+                    // limit reached
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            })).toList();
+
+            start.countDown();
+            for (Thread thread : threads) thread.join();
+
+            assertEquals(5, accepted.get());
+            assertEquals(5, broadcaster.subscriberCount());
+        }
+
+        @Test
+        @DisplayName("shouldFreeSlot_WhenSubscriberIsDropped")
+        void shouldFreeSlot_WhenSubscriberIsDropped() {
+            WebhookEventBroadcaster broadcaster = new WebhookEventBroadcaster(meterRegistry, 1, 1, 60_000, 60_000);
+            RecordingEmitter slow = new RecordingEmitter();
+            slow.blocking = true;
+            broadcaster.register(null, slow);
+            for (long i = 0; i < 5; i++) broadcaster.handle(event(i, 42));
+
+            assertDoesNotThrow(() -> broadcaster.register(null, new RecordingEmitter()));
+            slow.unblock.countDown();
+        }
+    }
+}
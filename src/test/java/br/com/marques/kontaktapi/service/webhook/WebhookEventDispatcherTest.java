@@ -0,0 +1,136 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WebhookEventDispatcher Tests")
+class WebhookEventDispatcherTest {
+
+    private WebhookEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) dispatcher.stop();
+    }
+
+    private static ContactCreationEventRequest event(long eventId, Long objectId) {
+        return new ContactCreationEventRequest(eventId, 1L, 10L, 20L, 1_700_000_000_000L,
+                "contact.creation", 0, objectId, "CREATED", "CRM");
+    }
+
+    @Nested
+    @DisplayName("dispatch")
+    class DispatchTests {
+
+        @Test
+        @DisplayName("shouldPreserveOrderPerObject_WhenObjectsAreInterleaved")
+        void shouldPreserveOrderPerObject_WhenObjectsAreInterleaved() throws InterruptedException {
+            Map<Long, List<Long>> seen = new ConcurrentHashMap<>();
+            CountDownLatch done = new CountDownLatch(1000);
+            dispatcher = new WebhookEventDispatcher(List.of(event -> {
+                seen.computeIfAbsent(event.objectId(), k -> new ArrayList<>()).add(event.eventId());
+                done.countDown();
+            }), new SimpleMeterRegistry(), 8, 1024);
+
+            dispatcher.dispatch(LongStream.range(0, 1000).mapToObj(i -> event(i, i % 10)).toList());
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            seen.forEach((objectId, eventIds) ->
+                    assertEquals(LongStream.range(0, 100).map(i -> i * 10 + objectId).boxed().toList(), eventIds));
+        }
+
+        @Test
+        @DisplayName("shouldRunLanesConcurrently_WhenObjectsHashToDifferentLanes")
+        void shouldRunLanesConcurrently_WhenObjectsHashToDifferentLanes() throws InterruptedException {
+            CountDownLatch bothStarted = new CountDownLatch(2);
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            dispatcher = new WebhookEventDispatcher(List.of(event -> {
+                threads.add(Thread.currentThread());
+                bothStarted.countDown();
+                try {
+                    bothStarted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }), new SimpleMeterRegistry(), 64, 1024);
+            long other = LongStream.range(2, 1000)
+                    .filter(id -> dispatcher.laneOf(event(0, id)) != dispatcher.laneOf(event(0, 1L)))
+                    .findFirst().orElseThrow();
+
+            dispatcher.dispatch(List.of(event(1, 1L), event(2, other)));
+
+            assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            assertTrue(threads.stream().allMatch(Thread::isVirtual));
+        }
+
+        @Test
+        @DisplayName("shouldKeepDispatching_WhenHandlerThrows")
+        void shouldKeepDispatching_WhenHandlerThrows() throws InterruptedException {
+            CountDownLatch done = new CountDownLatch(2);
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            dispatcher = new WebhookEventDispatcher(List.of(event -> {
+                done.countDown();
+                if (event.eventId() == 1) throw new IllegalStateException("boom");
+            }), meterRegistry, 4, 1024);
+
+            dispatcher.dispatch(List.of(event(1, 5L), event(2, 5L)));
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(1, meterRegistry.get("webhook.dispatch.failures").counter().count());
+        }
+
+        @Test
+        @DisplayName("shouldShedAndCountEvents_WhenLaneIsFull")
+        void shouldShedAndCountEvents_WhenLaneIsFull() throws InterruptedException {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(3);
+            AtomicInteger handled = new AtomicInteger();
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            dispatcher = new WebhookEventDispatcher(List.of(event -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                handled.incrementAndGet();
+                done.countDown();
+            }), meterRegistry, 1, 2);
+
+            dispatcher.dispatch(List.of(event(1, 5L)));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            dispatcher.dispatch(LongStream.range(2, 6).mapToObj(i -> event(i, 5L)).toList());
+
+            assertEquals(2, meterRegistry.get("webhook.dispatch.shed").counter().count());
+            assertEquals(3, dispatcher.pending());
+            release.countDown();
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(3, handled.get());
+        }
+
+        @Test
+        @DisplayName("shouldFallBackToPortalLane_WhenObjectIdIsMissing")
+        void shouldFallBackToPortalLane_WhenObjectIdIsMissing() {
+            dispatcher = new WebhookEventDispatcher(List.of(), new SimpleMeterRegistry(), 64, 1024);
+
+            assertEquals(dispatcher.laneOf(event(1, 10L)), dispatcher.laneOf(event(2, null)));
+        }
+    }
+}
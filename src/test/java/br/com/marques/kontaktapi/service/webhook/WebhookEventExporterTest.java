@@ -0,0 +1,101 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventFilter;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventView;
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookEventExporter Tests")
+class WebhookEventExporterTest {
+    @Mock
+    private ContactCreationEventRepository repository;
+
+    private WebhookEventExporter exporter;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exporter = new WebhookEventExporter(repository, objectMapper, 100);
+    }
+
+    private static ContactCreationEventView view(long id, String changeSource) {
+        return new ContactCreationEventView(id, 1000L + id, 1L, 42L, 7L, NOW, "contact.creation", 0, 500L, "CREATED", changeSource);
+    }
+
+    @Nested
+    @DisplayName("export")
+    class ExportTests {
+
+        @Test
+        @DisplayName("shouldWriteOneJsonObjectPerLine_WhenFormatIsNdjson")
+        void shouldWriteOneJsonObjectPerLine_WhenFormatIsNdjson() throws IOException {
+            when(repository.streamViews(any(ContactCreationEventFilter.class), eq(100)))
+                    .thenReturn(Stream.of(view(1, "CRM"), view(2, "IMPORT")));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            long exported = exporter.export(null, WebhookExportFormat.NDJSON, false, out);
+
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertEquals(2, exported);
+            assertEquals(2, lines.length);
+            JsonNode first = new ObjectMapper().readTree(lines[0]);
+            assertEquals(1, first.get("id").asLong());
+            assertEquals("2024-05-01T12:00:00", first.get("occurredAt").asText());
+        }
+
+        @Test
+        @DisplayName("shouldQuoteFieldsWithSeparators_WhenFormatIsCsv")
+        void shouldQuoteFieldsWithSeparators_WhenFormatIsCsv() throws IOException {
+            when(repository.streamViews(any(ContactCreationEventFilter.class), eq(100)))
+                    .thenReturn(Stream.of(view(1, "API, \"bulk\"")));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            exporter.export(ContactCreationEventFilter.empty(), WebhookExportFormat.CSV, false, out);
+
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertEquals(WebhookEventExporter.CSV_HEADER, lines[0]);
+            assertEquals("1,1001,1,42,7,2024-05-01T12:00,contact.creation,0,500,CREATED,\"API, \"\"bulk\"\"\"", lines[1]);
+        }
+
+        @Test
+        @DisplayName("shouldCompressOutput_WhenGzipIsRequested")
+        void shouldCompressOutput_WhenGzipIsRequested() throws IOException {
+            when(repository.streamViews(any(ContactCreationEventFilter.class), eq(100)))
+                    .thenReturn(Stream.of(view(1, "CRM")));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            exporter.export(null, WebhookExportFormat.CSV, true, out);
+
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+                String csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                assertTrue(csv.startsWith(WebhookEventExporter.CSV_HEADER));
+                assertEquals(2, csv.split("\n").length);
+            }
+        }
+    }
+}
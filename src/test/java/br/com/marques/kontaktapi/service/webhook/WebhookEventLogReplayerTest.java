@@ -0,0 +1,130 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookEventLogReplayer Tests")
+class WebhookEventLogReplayerTest {
+    @Mock
+    private WebhookEventLog eventLog;
+    @Mock
+    private WebhookEventWriter eventWriter;
+
+    private WebhookEventLogReplayer replayer;
+
+    private static final WebhookEventLog.LogPosition START = new WebhookEventLog.LogPosition(0, 0);
+    private static final WebhookEventLog.LogPosition AFTER_FIRST = new WebhookEventLog.LogPosition(0, 100);
+    private static final WebhookEventLog.LogPosition AFTER_SECOND = new WebhookEventLog.LogPosition(1, 80);
+
+    @BeforeEach
+    void setUp() {
+        replayer = new WebhookEventLogReplayer(eventLog, eventWriter, new SimpleMeterRegistry(), 64, 3, 60_000);
+        when(eventLog.checkpoint()).thenReturn(START);
+    }
+
+    private static ContactCreationEventRequest event(long eventId) {
+        return new ContactCreationEventRequest(eventId, 1L, 10L, 20L, 1_700_000_000_000L,
+                "contact.creation", 0, 100L + eventId, "CREATED", "CRM");
+    }
+
+    @Nested
+    @DisplayName("replayNextBatch")
+    class ReplayTests {
+
+        @Test
+        @DisplayName("shouldWriteAllRecordsAndCommitPastLast_WhenDatabaseAcceptsBatch")
+        void shouldWriteAllRecordsAndCommitPastLast_WhenDatabaseAcceptsBatch() throws IOException {
+            when(eventLog.read(START, 64)).thenReturn(List.of(
+                    new WebhookEventLog.Entry(List.of(event(1)), AFTER_FIRST),
+                    new WebhookEventLog.Entry(List.of(event(2), event(3)), AFTER_SECOND)));
+
+            assertTrue(replayer.replayNextBatch());
+            verify(eventWriter).write(List.of(event(1), event(2), event(3)));
+            verify(eventLog).commit(AFTER_SECOND);
+        }
+
+        @Test
+        @DisplayName("shouldKeepCheckpoint_WhenDatabaseIsUnavailable")
+        void shouldKeepCheckpoint_WhenDatabaseIsUnavailable() throws IOException {
+            when(eventLog.read(START, 64)).thenReturn(List.of(new WebhookEventLog.Entry(List.of(event(1)), AFTER_FIRST)));
+            when(eventWriter.write(anyList())).thenThrow(new CannotGetJdbcConnectionException("connection refused"));
+
+            assertFalse(replayer.replayNextBatch());
+            verify(eventLog, never()).commit(any());
+            verify(eventLog, never()).deadLetter(any(), anyString());
+        }
+
+        @Test
+        @DisplayName("shouldDeadLetterPoisonRecordAndCommitPastIt_WhenFailureIsPermanent")
+        void shouldDeadLetterPoisonRecordAndCommitPastIt_WhenFailureIsPermanent() throws IOException {
+            WebhookEventLog.Entry good = new WebhookEventLog.Entry(List.of(event(1)), AFTER_FIRST);
+            WebhookEventLog.Entry poison = new WebhookEventLog.Entry(List.of(event(2)), AFTER_SECOND);
+            when(eventLog.read(START, 64)).thenReturn(List.of(good, poison));
+            when(eventWriter.write(List.of(event(1), event(2)))).thenThrow(new DataIntegrityViolationException("value too long"));
+            when(eventWriter.write(List.of(event(2)))).thenThrow(new DataIntegrityViolationException("value too long"));
+
+            assertTrue(replayer.replayNextBatch());
+            verify(eventWriter).write(List.of(event(1)));
+            verify(eventLog).deadLetter(poison, WebhookEventLogReplayer.REJECTED);
+            verify(eventLog).commit(AFTER_FIRST);
+            verify(eventLog).commit(AFTER_SECOND);
+        }
+
+        @Test
+        @DisplayName("shouldDeadLetterCorruptRecordAndCommitPastIt_WhenChecksumFailed")
+        void shouldDeadLetterCorruptRecordAndCommitPastIt_WhenChecksumFailed() throws IOException {
+            WebhookEventLog.Entry corrupt = new WebhookEventLog.Entry(List.of(), AFTER_FIRST, new byte[]{1});
+            when(eventLog.read(START, 64)).thenReturn(List.of(
+                    corrupt,
+                    new WebhookEventLog.Entry(List.of(event(2)), AFTER_SECOND)));
+
+            assertTrue(replayer.replayNextBatch());
+            verify(eventWriter).write(List.of(event(2)));
+            verify(eventLog).deadLetter(corrupt, WebhookEventLogReplayer.CORRUPT);
+            verify(eventLog).commit(AFTER_SECOND);
+        }
+    }
+
+    @Nested
+    @DisplayName("replay")
+    class ReplayTickTests {
+
+        @Test
+        @DisplayName("shouldStopAfterMaxBatches_WhenBacklogIsLongerThanOneTick")
+        void shouldStopAfterMaxBatches_WhenBacklogIsLongerThanOneTick() throws IOException {
+            when(eventLog.read(START, 64)).thenReturn(List.of(new WebhookEventLog.Entry(List.of(event(1)), AFTER_FIRST)));
+
+            replayer.replay();
+
+            verify(eventLog, times(3)).read(START, 64);
+            verify(eventLog, times(3)).commit(AFTER_FIRST);
+        }
+
+        @Test
+        @DisplayName("shouldStopEarly_WhenLogIsDrained")
+        void shouldStopEarly_WhenLogIsDrained() throws IOException {
+            when(eventLog.read(START, 64)).thenReturn(List.of());
+
+            replayer.replay();
+
+            verify(eventLog, times(1)).read(START, 64);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WebhookEventLog Tests")
+class WebhookEventLogTest {
+    @TempDir
+    private Path directory;
+
+    private WebhookEventLog eventLog;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (eventLog != null) eventLog.close();
+    }
+
+    private WebhookEventLog open(int segmentBytes) throws IOException {
+        WebhookEventLog opened = new WebhookEventLog(new ObjectMapper(), new SimpleMeterRegistry(),
+                directory, segmentBytes, WalSyncPolicy.NEVER);
+        opened.open();
+        return opened;
+    }
+
+    private static ContactCreationEventRequest event(long eventId) {
+        return new ContactCreationEventRequest(eventId, 1L, 10L, 20L, 1_700_000_000_000L,
+                "contact.creation", 0, 100L + eventId, "CREATED", "CRM");
+    }
+
+    private static List<ContactCreationEventRequest> events(List<WebhookEventLog.Entry> entries) {
+        return entries.stream().flatMap(entry -> entry.events().stream()).toList();
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(WebhookEventLog.SEGMENT_SUFFIX)).count();
+        }
+    }
+
+    @Nested
+    @DisplayName("append and read")
+    class AppendTests {
+
+        @Test
+        @DisplayName("shouldReadBatchesInAppendOrder_WhenAppendedToOneSegment")
+        void shouldReadBatchesInAppendOrder_WhenAppendedToOneSegment() throws IOException {
+            eventLog = open(1 << 16);
+            eventLog.append(List.of(event(1), event(2)));
+            eventLog.append(List.of(event(3)));
+
+            List<WebhookEventLog.Entry> entries = eventLog.read(eventLog.checkpoint(), 10);
+
+            assertEquals(2, entries.size());
+            assertEquals(List.of(event(1), event(2), event(3)), events(entries));
+            assertEquals(eventLog.tail(), entries.getLast().next());
+        }
+
+        @Test
+        @DisplayName("shouldRollSegmentsAndReadAcrossThem_WhenSegmentFills")
+        void shouldRollSegmentsAndReadAcrossThem_WhenSegmentFills() throws IOException {
+            eventLog = open(512);
+            LongStream.rangeClosed(1, 10).forEach(id -> eventLog.append(List.of(event(id))));
+
+            List<WebhookEventLog.Entry> entries = eventLog.read(eventLog.checkpoint(), 100);
+
+            assertTrue(segmentCount() > 1);
+            assertEquals(10, entries.size());
+            assertEquals(10L, events(entries).getLast().eventId());
+        }
+    }
+
+    @Nested
+    @DisplayName("checkpoint and recovery")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("shouldResumeFromCheckpointAndDeleteOldSegments_WhenReopened")
+        void shouldResumeFromCheckpointAndDeleteOldSegments_WhenReopened() throws IOException {
+            eventLog = open(512);
+            LongStream.rangeClosed(1, 10).forEach(id -> eventLog.append(List.of(event(id))));
+            List<WebhookEventLog.Entry> firstSix = eventLog.read(eventLog.checkpoint(), 6);
+            eventLog.commit(firstSix.getLast().next());
+            eventLog.close();
+
+            eventLog = open(512);
+            eventLog.append(List.of(event(11)));
+            List<WebhookEventLog.Entry> remaining = eventLog.read(eventLog.checkpoint(), 100);
+
+            assertEquals(List.of(7L, 8L, 9L, 10L, 11L),
+                    events(remaining).stream().map(ContactCreationEventRequest::eventId).toList());
+            assertEquals(firstSix.getLast().next().segment(), eventLog.checkpoint().segment());
+        }
+
+        @Test
+        @DisplayName("shouldDiscardTornRecord_WhenCrashInterruptedLastAppend")
+        void shouldDiscardTornRecord_WhenCrashInterruptedLastAppend() throws IOException {
+            eventLog = open(1 << 16);
+            eventLog.append(List.of(event(1)));
+            eventLog.append(List.of(event(2)));
+            WebhookEventLog.LogPosition tornRecord = eventLog.read(eventLog.checkpoint(), 1).getFirst().next();
+            eventLog.close();
+
+            Path segment = directory.resolve(String.format("%020d%s", tornRecord.segment(), WebhookEventLog.SEGMENT_SUFFIX));
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[]{0x7f}), tornRecord.offset() + WebhookEventLog.HEADER_BYTES + 2);
+            }
+
+            eventLog = open(1 << 16);
+            assertEquals(tornRecord, eventLog.tail());
+
+            eventLog.append(List.of(event(3)));
+            assertEquals(List.of(event(1), event(3)), events(eventLog.read(eventLog.checkpoint(), 10)));
+        }
+    }
+
+    @Nested
+    @DisplayName("corrupt records")
+    class CorruptRecordTests {
+
+        @Test
+        @DisplayName("shouldReturnCorruptEntryAndKeepReading_WhenChecksumDoesNotMatch")
+        void shouldReturnCorruptEntryAndKeepReading_WhenChecksumDoesNotMatch() throws IOException {
+            eventLog = open(1 << 16);
+            eventLog.append(List.of(event(1)));
+            eventLog.append(List.of(event(2)));
+            eventLog.append(List.of(event(3)));
+            WebhookEventLog.LogPosition second = eventLog.read(eventLog.checkpoint(), 1).getFirst().next();
+
+            Path segment = directory.resolve(String.format("%020d%s", second.segment(), WebhookEventLog.SEGMENT_SUFFIX));
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[]{0x7f}), second.offset() + WebhookEventLog.HEADER_BYTES + 2);
+            }
+
+            List<WebhookEventLog.Entry> entries = eventLog.read(eventLog.checkpoint(), 10);
+
+            assertEquals(3, entries.size());
+            assertTrue(entries.get(1).corrupt());
+            assertEquals(List.of(event(1), event(3)), events(entries));
+        }
+
+        @Test
+        @DisplayName("shouldAppendLineToDeadLetterFile_WhenRecordIsDeadLettered")
+        void shouldAppendLineToDeadLetterFile_WhenRecordIsDeadLettered() throws IOException {
+            eventLog = open(1 << 16);
+            eventLog.append(List.of(event(1)));
+            WebhookEventLog.Entry entry = eventLog.read(eventLog.checkpoint(), 1).getFirst();
+
+            eventLog.deadLetter(entry, "rejected");
+            eventLog.deadLetter(new WebhookEventLog.Entry(List.of(), entry.next(), new byte[]{1, 2}), "corrupt");
+
+            List<String> lines = Files.readAllLines(directory.resolve(WebhookEventLog.DEAD_LETTER_FILE));
+            assertEquals(2, lines.size());
+            assertTrue(lines.get(0).contains("\"reason\":\"rejected\"") && lines.get(0).contains("\"eventId\":1"));
+            assertTrue(lines.get(1).contains("\"payload\":\"AQI=\""));
+        }
+    }
+}
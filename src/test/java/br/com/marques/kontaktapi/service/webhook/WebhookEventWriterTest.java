@@ -0,0 +1,117 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventBatchRepository;
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventCopyLoader;
+import br.com.marques.kontaktapi.domain.repository.ContactCreationEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookEventWriter Tests")
+class WebhookEventWriterTest {
+    @Mock
+    private ContactCreationEventRepository repository;
+    @Mock
+    private ContactCreationEventBatchRepository batchRepository;
+    @Mock
+    private ContactCreationEventCopyLoader copyLoader;
+    @Mock
+    private EventRollupStore rollupStore;
+    @Mock
+    private WebhookEventDispatcher dispatcher;
+    @Mock
+    private WebhookAdmissionController admissionController;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebhookEventWriter eventWriter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventWriter = new WebhookEventWriter(repository, batchRepository, copyLoader,
+                new EventIdBloomFilter(1000, 0.01), rollupStore, dispatcher, admissionController, meterRegistry, 3);
+        lenient().when(batchRepository.insertIgnoringDuplicates(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private static ContactCreationEventRequest event(long eventId, int attemptNumber) {
+        return new ContactCreationEventRequest(eventId, 1L, 10L, 20L, 1_700_000_000_000L,
+                "contact.creation", attemptNumber, 100L + eventId, "CREATED", "CRM");
+    }
+
+    @Nested
+    @DisplayName("write")
+    class WriteTests {
+
+        @Test
+        @DisplayName("shouldInsertOnlyFirstDelivery_WhenBatchRepeatsEventId")
+        void shouldInsertOnlyFirstDelivery_WhenBatchRepeatsEventId() {
+            List<ContactCreationEventRequest> inserted = eventWriter.write(List.of(event(1, 0), event(1, 1), event(2, 0)));
+
+            assertEquals(List.of(event(1, 0), event(2, 0)), inserted);
+            verify(batchRepository).insertIgnoringDuplicates(List.of(event(1, 0), event(2, 0)));
+            verifyNoInteractions(repository);
+            verify(rollupStore).recordAfterCommit(List.of(event(1, 0), event(2, 0)));
+            verify(dispatcher).dispatchAfterCommit(List.of(event(1, 0), event(2, 0)));
+            assertEquals(1, meterRegistry.get("webhook.dedup.dropped").summary().totalAmount());
+        }
+
+        @Test
+        @DisplayName("shouldSkipDatabaseLookup_WhenBloomFilterHasNotSeenIds")
+        void shouldSkipDatabaseLookup_WhenBloomFilterHasNotSeenIds() {
+            eventWriter.write(List.of(event(1, 0)));
+            eventWriter.write(List.of(event(2, 0)));
+
+            verify(repository, never()).findExistingEventIds(any());
+        }
+
+        @Test
+        @DisplayName("shouldDropRedelivery_WhenEventIdAlreadyPersisted")
+        void shouldDropRedelivery_WhenEventIdAlreadyPersisted() {
+            eventWriter.write(List.of(event(1, 0)));
+            when(repository.findExistingEventIds(Set.of(1L))).thenReturn(Set.of(1L));
+
+            List<ContactCreationEventRequest> inserted = eventWriter.write(List.of(event(1, 1), event(3, 0)));
+
+            assertEquals(List.of(event(3, 0)), inserted);
+            verify(batchRepository).insertIgnoringDuplicates(List.of(event(3, 0)));
+        }
+
+        @Test
+        @DisplayName("shouldCountConflicts_WhenDatabaseRejectsDuplicates")
+        void shouldCountConflicts_WhenDatabaseRejectsDuplicates() {
+            when(batchRepository.insertIgnoringDuplicates(anyList())).thenReturn(List.of(event(5, 0)));
+
+            List<ContactCreationEventRequest> inserted = eventWriter.write(List.of(event(4, 0), event(5, 0)));
+
+            assertEquals(List.of(event(5, 0)), inserted);
+            assertEquals(1, meterRegistry.get("webhook.dedup.dropped").summary().totalAmount());
+        }
+
+        @Test
+        @DisplayName("shouldUseCopyLoader_WhenBatchReachesCopyThreshold")
+        void shouldUseCopyLoader_WhenBatchReachesCopyThreshold() {
+            List<ContactCreationEventRequest> events = List.of(event(1, 0), event(2, 0), event(3, 0));
+            when(copyLoader.load(events)).thenReturn(events);
+
+            List<ContactCreationEventRequest> inserted = eventWriter.write(events);
+
+            assertEquals(events, inserted);
+            verify(batchRepository, never()).insertIgnoringDuplicates(anyList());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.marques.kontaktapi.service.webhook;
+
+import br.com.marques.kontaktapi.controller.exception.GenericException;
+import br.com.marques.kontaktapi.domain.dto.contact.ContactCreationEventRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookIngestionQueue Tests")
+class WebhookIngestionQueueTest {
+    @Mock
+    private WebhookEventWriter eventWriter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebhookIngestionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (queue != null) queue.stop();
+    }
+
+    private static List<ContactCreationEventRequest> events(int count) {
+        return LongStream.range(0, count)
+                .mapToObj(i -> new ContactCreationEventRequest(i, 1L, 10L, 20L, 1_700_000_000_000L,
+                        "contact.creation", 0, 100L + i, "CREATED", "CRM"))
+                .toList();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    @Nested
+    @DisplayName("enqueue")
+    class EnqueueTests {
+
+        @Test
+        @DisplayName("shouldFlushInSizeBoundedBatches_WhenEventsAreQueued")
+        void shouldFlushInSizeBoundedBatches_WhenEventsAreQueued() throws InterruptedException {
+            CountDownLatch flushed = new CountDownLatch(25);
+            doAnswer(invocation -> {
+                List<?> batch = invocation.getArgument(0);
+                assertTrue(batch.size() <= 10);
+                batch.forEach(e -> flushed.countDown());
+                return null;
+            }).when(eventWriter).write(anyList());
+
+            queue = new WebhookIngestionQueue(eventWriter, meterRegistry, 100, 10, 50, 0);
+            queue.start();
+            queue.enqueue(events(25));
+
+            assertTrue(flushed.await(5, TimeUnit.SECONDS));
+            awaitUntil(() -> meterRegistry.get("webhook.ingestion.batch.size").summary().totalAmount() == 25);
+        }
+
+        @Test
+        @DisplayName("shouldRejectDelivery_WhenQueueIsFull")
+        void shouldRejectDelivery_WhenQueueIsFull() throws InterruptedException {
+            CountDownLatch blocked = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                blocked.await();
+                return null;
+            }).when(eventWriter).write(anyList());
+
+            queue = new WebhookIngestionQueue(eventWriter, meterRegistry, 5, 5, 10, 0);
+            queue.start();
+            queue.enqueue(events(5));
+
+            GenericException exception = assertThrows(GenericException.class, () -> queue.enqueue(events(1)));
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+            blocked.countDown();
+        }
+
+        @Test
+        @DisplayName("shouldReleaseCapacity_WhenFlushFailsAfterRetries")
+        void shouldReleaseCapacity_WhenFlushFailsAfterRetries() throws InterruptedException {
+            CountDownLatch attempted = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                attempted.countDown();
+                throw new IllegalStateException("database unavailable");
+            }).when(eventWriter).write(anyList());
+
+            queue = new WebhookIngestionQueue(eventWriter, meterRegistry, 3, 3, 10, 0);
+            queue.start();
+            queue.enqueue(events(3));
+
+            assertTrue(attempted.await(5, TimeUnit.SECONDS));
+            awaitUntil(() -> meterRegistry.get("webhook.ingestion.dropped").counter().count() == 3);
+            assertDoesNotThrow(() -> queue.enqueue(events(3)));
+        }
+    }
+}